@@ -0,0 +1,107 @@
+package com.linktic.reservation_system_api.benchmark;
+
+import com.linktic.reservation_system_api.ReservationSystemApiApplication;
+import com.linktic.reservation_system_api.entity.Role;
+import com.linktic.reservation_system_api.entity.Room;
+import com.linktic.reservation_system_api.entity.User;
+import com.linktic.reservation_system_api.util.RoomStatus;
+import com.linktic.reservation_system_api.util.RoomType;
+import com.linktic.reservation_system_api.util.UserRole;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Application context backed by an embedded H2 database, seeded with one user and a given number of rooms.
+ * Benchmarks run the real services and repositories against it, without the web layer.
+ */
+final class BenchmarkDatabase implements AutoCloseable {
+
+    static final String USER_EMAIL = "benchmark@link.tic";
+
+    private final ConfigurableApplicationContext context;
+    private final List<Long> roomIds;
+
+    private BenchmarkDatabase(ConfigurableApplicationContext context, List<Long> roomIds) {
+        this.context = context;
+        this.roomIds = roomIds;
+    }
+
+    /**
+     * Starts the application on a fresh in-memory database.
+     *
+     * @param roomCount the number of available rooms to create.
+     * @return the started database.
+     */
+    static BenchmarkDatabase start(int roomCount) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(ReservationSystemApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.driver-class-name=org.h2.Driver",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.flyway.enabled=false",
+                        "logging.level.root=WARN")
+                .run();
+        return new BenchmarkDatabase(context, seed(context.getBean(EntityManagerFactory.class), roomCount));
+    }
+
+    <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    /**
+     * @return the IDs of the seeded rooms, in creation order.
+     */
+    List<Long> roomIds() {
+        return roomIds;
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+
+    private static List<Long> seed(EntityManagerFactory entityManagerFactory, int roomCount) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            entityManager.getTransaction().begin();
+            Role role = new Role();
+            role.setName(UserRole.ROLE_USER);
+            entityManager.persist(role);
+
+            User user = new User();
+            user.setEmail(USER_EMAIL);
+            user.setPassword("password");
+            user.setCreatedAt(LocalDateTime.now());
+            user.setRole(role);
+            entityManager.persist(user);
+
+            List<Long> roomIds = new ArrayList<>(roomCount);
+            RoomType[] types = RoomType.values();
+            for (int i = 0; i < roomCount; i++) {
+                Room room = new Room();
+                room.setRoomNumber(String.valueOf(i));
+                room.setType(types[i % types.length]);
+                room.setStatus(RoomStatus.AVAILABLE);
+                room.setPrice(BigDecimal.valueOf(100 + i % 900));
+                entityManager.persist(room);
+                roomIds.add(room.getId());
+            }
+            entityManager.getTransaction().commit();
+            return roomIds;
+        } finally {
+            entityManager.close();
+        }
+    }
+}
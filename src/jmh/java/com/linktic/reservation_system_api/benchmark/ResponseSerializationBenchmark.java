@@ -0,0 +1,75 @@
+package com.linktic.reservation_system_api.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linktic.reservation_system_api.dto.CursorPage;
+import com.linktic.reservation_system_api.dto.ReservationCursor;
+import com.linktic.reservation_system_api.dto.ReservationView;
+import com.linktic.reservation_system_api.dto.Response;
+import com.linktic.reservation_system_api.dto.RoleView;
+import com.linktic.reservation_system_api.dto.RoomView;
+import com.linktic.reservation_system_api.dto.UserView;
+import com.linktic.reservation_system_api.util.RoomStatus;
+import com.linktic.reservation_system_api.util.RoomType;
+import com.linktic.reservation_system_api.util.UserRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the JSON serialization of a page of reservations, as written by {@code GET /api/reservations}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseSerializationBenchmark {
+
+    @Param({"50", "500"})
+    private int reservationCount;
+
+    @Param({"1", "10"})
+    private int bookingSize;
+
+    private ObjectMapper objectMapper;
+    private Response<CursorPage<ReservationView>> response;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        LocalDateTime now = LocalDateTime.now();
+        RoleView role = new RoleView(1L, UserRole.ROLE_USER);
+        List<ReservationView> reservations = new ArrayList<>(reservationCount);
+        for (long id = 1; id <= reservationCount; id++) {
+            UserView user = new UserView(id, "First", "Last", "3000000000", "user" + id + "@link.tic", now, role);
+            List<RoomView> rooms = new ArrayList<>(bookingSize);
+            for (long room = 0; room < bookingSize; room++) {
+                rooms.add(new RoomView(id * bookingSize + room, String.valueOf(id * bookingSize + room),
+                        RoomType.DOUBLE, RoomStatus.AVAILABLE, BigDecimal.valueOf(350)));
+            }
+            reservations.add(new ReservationView(id, now, now.plusDays(id), now.plusDays(id + 2), user, rooms));
+        }
+        String nextCursor = new ReservationCursor(now.plusDays(reservationCount), (long) reservationCount).encode();
+        response = new Response<>(true, "Reservations fetched successfully", HttpStatus.OK.value(),
+                new CursorPage<>(reservations, nextCursor));
+    }
+
+    @Benchmark
+    public byte[] serializeReservationsPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
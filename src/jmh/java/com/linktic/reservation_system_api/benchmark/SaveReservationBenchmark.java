@@ -0,0 +1,72 @@
+package com.linktic.reservation_system_api.benchmark;
+
+import com.linktic.reservation_system_api.dto.ReservationDTO;
+import com.linktic.reservation_system_api.dto.ReservationView;
+import com.linktic.reservation_system_api.dto.Response;
+import com.linktic.reservation_system_api.service.ReservationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a complete booking: validation, locking, and the inserts of the reservation and its stays in one transaction.
+ * Each booking is deleted after the invocation so the same rooms are booked again; the deletion is not measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SaveReservationBenchmark {
+
+    @Param({"100", "10000"})
+    private int roomCount;
+
+    @Param({"1", "10"})
+    private int bookingSize;
+
+    private BenchmarkDatabase database;
+    private ReservationService reservationService;
+    private ReservationDTO request;
+    private Response<ReservationView> lastResponse;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = BenchmarkDatabase.start(roomCount);
+        reservationService = database.getBean(ReservationService.class);
+
+        request = new ReservationDTO();
+        request.setUserEmail(BenchmarkDatabase.USER_EMAIL);
+        request.setReservationDate(LocalDateTime.now().plusDays(30));
+        request.setRoomIds(new HashSet<>(database.roomIds().subList(0, bookingSize)));
+    }
+
+    @TearDown(Level.Invocation)
+    public void deleteReservation() {
+        if (lastResponse == null || !lastResponse.getSuccess()) {
+            throw new IllegalStateException("Booking failed: " + (lastResponse == null ? null : lastResponse.getMessage()));
+        }
+        reservationService.deleteReservation(lastResponse.getData().id());
+        lastResponse = null;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    public Response<ReservationView> saveReservation() {
+        lastResponse = reservationService.saveReservation(request);
+        return lastResponse;
+    }
+}
@@ -0,0 +1,70 @@
+package com.linktic.reservation_system_api.benchmark;
+
+import com.linktic.reservation_system_api.dto.ReservationDTO;
+import com.linktic.reservation_system_api.dto.Response;
+import com.linktic.reservation_system_api.service.ReservationService;
+import com.linktic.reservation_system_api.service.ReservationServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.aop.framework.AopProxyUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the validation of a booking request: user lookup, room loading and availability checks.
+ * The method is private to the service, so it is invoked through a method handle.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ValidateReservationBenchmark {
+
+    @Param({"100", "10000"})
+    private int roomCount;
+
+    @Param({"1", "10"})
+    private int bookingSize;
+
+    private BenchmarkDatabase database;
+    private ReservationServiceImpl reservationService;
+    private MethodHandle validateReservation;
+    private ReservationDTO request;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ReflectiveOperationException {
+        database = BenchmarkDatabase.start(roomCount);
+        // The service bean is a transactional proxy; the private method has to run on the target.
+        reservationService = (ReservationServiceImpl) AopProxyUtils.getSingletonTarget(database.getBean(ReservationService.class));
+        validateReservation = MethodHandles.privateLookupIn(ReservationServiceImpl.class, MethodHandles.lookup())
+                .findVirtual(ReservationServiceImpl.class, "validateReservation",
+                        MethodType.methodType(Response.class, ReservationDTO.class, Long.class));
+
+        request = new ReservationDTO();
+        request.setUserEmail(BenchmarkDatabase.USER_EMAIL);
+        request.setReservationDate(LocalDateTime.now().plusDays(30));
+        request.setRoomIds(new HashSet<>(database.roomIds().subList(roomCount - bookingSize, roomCount)));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    public Object validateReservation() throws Throwable {
+        return validateReservation.invoke(reservationService, request, (Long) null);
+    }
+}
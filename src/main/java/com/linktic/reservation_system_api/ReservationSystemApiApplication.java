@@ -2,8 +2,10 @@ package com.linktic.reservation_system_api;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
 public class ReservationSystemApiApplication {
 
 	public static void main(String[] args) {
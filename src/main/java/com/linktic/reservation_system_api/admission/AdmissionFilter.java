@@ -0,0 +1,175 @@
+package com.linktic.reservation_system_api.admission;
+
+import com.fasterxml.jackson.core.JacksonException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linktic.reservation_system_api.cache.UserLookupCache;
+import com.linktic.reservation_system_api.config.AdmissionProperties;
+import com.linktic.reservation_system_api.dto.Response;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.security.Principal;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Admission control of booking requests: creations, updates, deletions and imports of reservations, and the
+ * holds placed and released during checkout.
+ * Each client is held to its rate by the {@link ClientRateLimiter}, then the request takes a slot of the
+ * {@link WriteBulkhead}. Requests refused by either are answered at once with 429 Too Many Requests and a
+ * Retry-After header, before reaching the database, so a client flooding bookings neither exhausts the
+ * connection pool nor slows down reads and other clients.
+ * Clients are keyed by an identity the server checks rather than by anything the client may rotate at will:
+ * the authenticated principal when there is one, otherwise the user the booking is made for, read from the
+ * {@code userEmail} of the JSON body or parameter and only trusted once the user is found. Requests without
+ * either, such as bulk imports, are keyed by remote address.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class AdmissionFilter extends OncePerRequestFilter {
+
+    /**
+     * Name of the rejected requests counter.
+     */
+    public static final String REJECTIONS = "reservation.admission.rejections";
+
+    /**
+     * Largest body read ahead to find the user a booking is made for.
+     */
+    private static final int MAX_IDENTITY_BODY = 64 * 1024;
+    private static final String USER_EMAIL = "userEmail";
+    private static final List<String> PATHS = List.of("/api/reservations", "/api/holds");
+    private static final Set<String> WRITE_METHODS = Set.of(
+            HttpMethod.POST.name(), HttpMethod.PUT.name(), HttpMethod.PATCH.name(), HttpMethod.DELETE.name());
+
+    private final AdmissionProperties properties;
+    private final ClientRateLimiter rateLimiter;
+    private final WriteBulkhead bulkhead;
+    private final UserLookupCache userLookupCache;
+    private final ObjectMapper objectMapper;
+    private final Counter rateLimited;
+    private final Counter shed;
+
+    public AdmissionFilter(AdmissionProperties properties, ClientRateLimiter rateLimiter, WriteBulkhead bulkhead,
+                           UserLookupCache userLookupCache, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.rateLimiter = rateLimiter;
+        this.bulkhead = bulkhead;
+        this.userLookupCache = userLookupCache;
+        this.objectMapper = objectMapper;
+        this.rateLimited = Counter.builder(REJECTIONS)
+                .description("Booking requests rejected by admission control")
+                .tag("reason", "rate_limit")
+                .register(meterRegistry);
+        this.shed = Counter.builder(REJECTIONS)
+                .description("Booking requests rejected by admission control")
+                .tag("reason", "concurrency")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !properties.enabled()
+                || !WRITE_METHODS.contains(request.getMethod())
+                || PATHS.stream().noneMatch(filtered -> path.equals(filtered) || path.startsWith(filtered + "/"));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (isSmallJson(request)) {
+            request = new BufferedBodyRequest(request);
+        }
+        String clientKey = clientKey(request);
+        long waitNanos = rateLimiter.tryAcquire(clientKey);
+        if (waitNanos > 0) {
+            rateLimited.increment();
+            log.debug("Booking request of {} rejected, rate limit exceeded", clientKey);
+            reject(response, "Too many booking requests, retry later", TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1);
+            return;
+        }
+
+        boolean entered;
+        try {
+            entered = bulkhead.tryEnter();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            entered = false;
+        }
+        if (!entered) {
+            shed.increment();
+            log.debug("Booking request of {} rejected, too many bookings in progress", clientKey);
+            reject(response, "Too many bookings in progress, retry later", Math.max(1, properties.retryAfter().toSeconds()));
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            bulkhead.exit();
+        }
+    }
+
+    private String clientKey(HttpServletRequest request) {
+        Principal principal = request.getUserPrincipal();
+        if (principal != null) {
+            return "principal:" + principal.getName();
+        }
+        return userEmail(request)
+                .flatMap(userLookupCache::findByEmail)
+                .map(user -> "user:" + user.id())
+                .orElseGet(() -> "address:" + request.getRemoteAddr());
+    }
+
+    /**
+     * Gets the email of the user a booking is made for, from the JSON body, or from the parameters when there is no body.
+     */
+    private Optional<String> userEmail(HttpServletRequest request) {
+        if (request instanceof BufferedBodyRequest buffered) {
+            try {
+                JsonNode email = objectMapper.readTree(buffered.getBody()).path(USER_EMAIL);
+                return email.isTextual() ? Optional.of(email.asText()) : Optional.empty();
+            } catch (JacksonException e) {
+                // The handler answers malformed bodies.
+                return Optional.empty();
+            }
+        }
+        if (request.getContentType() == null) {
+            return Optional.ofNullable(request.getParameter(USER_EMAIL));
+        }
+        return Optional.empty();
+    }
+
+    private boolean isSmallJson(HttpServletRequest request) {
+        String contentType = request.getContentType();
+        long length = request.getContentLengthLong();
+        return contentType != null && contentType.startsWith(MediaType.APPLICATION_JSON_VALUE)
+                && length >= 0 && length <= MAX_IDENTITY_BODY;
+    }
+
+    private void reject(HttpServletResponse response, String message, long retryAfterSeconds) throws IOException {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(),
+                new Response<>(false, message, HttpStatus.TOO_MANY_REQUESTS.value(), null));
+    }
+}
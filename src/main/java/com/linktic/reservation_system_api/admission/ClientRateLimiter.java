@@ -0,0 +1,37 @@
+package com.linktic.reservation_system_api.admission;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.linktic.reservation_system_api.config.AdmissionProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Limits the rate of booking requests of each client with one {@link TokenBucket} per client.
+ * Buckets are kept in a bounded cache and forgotten once their client has been idle for a while;
+ * a forgotten client starts again with a full bucket.
+ */
+@Component
+public class ClientRateLimiter {
+
+    private final AdmissionProperties properties;
+    private final Cache<String, TokenBucket> buckets;
+
+    public ClientRateLimiter(AdmissionProperties properties) {
+        this.properties = properties;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.maxClients())
+                .expireAfterAccess(properties.idleTimeout())
+                .build();
+    }
+
+    /**
+     * Admits a request of a client if the client is within its rate.
+     *
+     * @param clientKey the key identifying the client.
+     * @return 0 if the request is admitted, otherwise the number of nanoseconds until the client may retry.
+     */
+    public long tryAcquire(String clientKey) {
+        long now = System.nanoTime();
+        return buckets.get(clientKey, key -> new TokenBucket(properties.rate(), properties.burst(), now)).tryConsume(now);
+    }
+}
@@ -0,0 +1,54 @@
+package com.linktic.reservation_system_api.admission;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Token bucket limiting the rate of requests of one client.
+ * The bucket holds up to a burst of tokens and refills at a constant rate; each request takes one token.
+ * The state is swapped atomically, so concurrent requests never block each other.
+ */
+final class TokenBucket {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private final AtomicReference<State> state;
+
+    /**
+     * Creates a full bucket.
+     *
+     * @param rate the number of tokens added per second.
+     * @param burst the maximum number of tokens held.
+     * @param now the current time, in nanoseconds.
+     */
+    TokenBucket(double rate, int burst, long now) {
+        this.capacity = burst;
+        this.tokensPerNano = rate / NANOS_PER_SECOND;
+        this.state = new AtomicReference<>(new State(burst, now));
+    }
+
+    /**
+     * Takes a token if one is available.
+     *
+     * @param now the current time, in nanoseconds.
+     * @return 0 if a token was taken, otherwise the number of nanoseconds until the next token is available.
+     */
+    long tryConsume(long now) {
+        while (true) {
+            State current = state.get();
+            double tokens = Math.min(capacity, current.tokens() + Math.max(0, now - current.refilledAt()) * tokensPerNano);
+            if (tokens < 1) {
+                return (long) Math.ceil((1 - tokens) / tokensPerNano);
+            }
+            // A caller with an older time may win the swap: the refill time never moves backwards, or the
+            // elapsed time would be credited twice.
+            if (state.compareAndSet(current, new State(tokens - 1, Math.max(now, current.refilledAt())))) {
+                return 0;
+            }
+        }
+    }
+
+    private record State(double tokens, long refilledAt) {
+    }
+}
@@ -0,0 +1,52 @@
+package com.linktic.reservation_system_api.admission;
+
+import com.linktic.reservation_system_api.config.AdmissionProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounds the number of booking requests served at once.
+ * Bookings hold a database connection for most of their duration, so bounding them below the size of
+ * the connection pool keeps the remaining connections free for read requests. Requests finding no free
+ * slot within a short wait are rejected rather than queued, so a burst of writes never builds a backlog.
+ */
+@Component
+public class WriteBulkhead {
+
+    /**
+     * Name of the gauge of booking requests in progress.
+     */
+    public static final String ACTIVE = "reservation.admission.writes.active";
+
+    private final AdmissionProperties properties;
+    private final Semaphore permits;
+
+    public WriteBulkhead(AdmissionProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.permits = new Semaphore(properties.maxConcurrentWrites());
+        Gauge.builder(ACTIVE, permits, semaphore -> properties.maxConcurrentWrites() - semaphore.availablePermits())
+                .description("Booking requests in progress")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Takes a slot, waiting at most the configured time for one to be released.
+     *
+     * @return true if a slot was taken and must be released with {@link #exit()}.
+     * @throws InterruptedException if the thread is interrupted while waiting.
+     */
+    public boolean tryEnter() throws InterruptedException {
+        return permits.tryAcquire(properties.maxWait().toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Releases a slot taken with {@link #tryEnter()}.
+     */
+    public void exit() {
+        permits.release();
+    }
+}
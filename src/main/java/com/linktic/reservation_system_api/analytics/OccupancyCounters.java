@@ -0,0 +1,326 @@
+package com.linktic.reservation_system_api.analytics;
+
+import com.linktic.reservation_system_api.config.AnalyticsProperties;
+import com.linktic.reservation_system_api.dto.RoomStayRow;
+import com.linktic.reservation_system_api.repository.RoomStayRepository;
+import com.linktic.reservation_system_api.util.RoomType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * In-memory counters of booked room nights and revenue per day and room type.
+ * Bookings add and remove their stays once committed, so analytics are read from memory instead of
+ * scanning reservations and rooms on every dashboard refresh. Like the availability index the counters
+ * are local to each instance: they are rebuilt from the stays at startup and every night, which also
+ * reconciles changes made by other instances.
+ * The rebuild splits the covered days into chunks read in parallel on a dedicated fork-join pool. Changes
+ * committed while it runs are recorded and replayed onto the rebuilt counters before they replace the
+ * current ones; each chunk remembers the stays it read, so a change already seen by the query of a chunk
+ * is not counted twice. Revenue is computed with the current price of each room.
+ */
+@RequiredArgsConstructor
+@Slf4j
+@Component
+public class OccupancyCounters implements SmartInitializingSingleton {
+
+    /**
+     * The number of days read by a single query of the rebuild.
+     */
+    private static final int REBUILD_CHUNK_DAYS = 31;
+
+    private final RoomStayRepository roomStayRepository;
+    private final AnalyticsProperties properties;
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    // Updates run concurrently under the read lock; the rebuild takes the write lock to start recording
+    // them and to replace the counters, so no update falls between the recorded ones and the new counters.
+    private final ReadWriteLock updateLock = new ReentrantReadWriteLock();
+    private volatile Counters counters = new Counters(LocalDate.now(), new ConcurrentHashMap<>());
+    private volatile Queue<Delta> recordedDeltas;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    /**
+     * Reconciles the counters with the database every night.
+     */
+    @Scheduled(cron = "${reservation.analytics.rebuild-cron:0 30 3 * * *}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    /**
+     * Gets the first day the counters cover; earlier nights are not counted.
+     *
+     * @return the first covered day.
+     */
+    public LocalDate coveredFrom() {
+        return counters.from();
+    }
+
+    /**
+     * Gets the nights booked on a day for a room type.
+     *
+     * @param day the day.
+     * @param type the room type.
+     * @return the number of room nights booked.
+     */
+    public long nights(LocalDate day, RoomType type) {
+        Tally tally = counters.tallies().get(new Key(day, type));
+        return tally == null ? 0 : tally.nights().sum();
+    }
+
+    /**
+     * Gets the revenue of the nights booked on a day for a room type.
+     *
+     * @param day the day.
+     * @param type the room type.
+     * @return the revenue.
+     */
+    public BigDecimal revenue(LocalDate day, RoomType type) {
+        Tally tally = counters.tallies().get(new Key(day, type));
+        return tally == null ? BigDecimal.ZERO : BigDecimal.valueOf(tally.revenueCents().sum(), 2);
+    }
+
+    /**
+     * Counts the nights of new stays.
+     *
+     * @param stays the stays.
+     */
+    public void add(Collection<RoomStayRow> stays) {
+        update(stays, 1);
+    }
+
+    /**
+     * Discounts the nights of removed stays.
+     *
+     * @param stays the stays.
+     */
+    public void remove(Collection<RoomStayRow> stays) {
+        update(stays, -1);
+    }
+
+    /**
+     * Recomputes the counters from the stays, from the configured history up to the last check-out,
+     * and replaces the current counters at once.
+     *
+     * @return false if a rebuild was already running.
+     */
+    public boolean rebuild() {
+        if (!rebuildLock.tryLock()) {
+            return false;
+        }
+        try {
+            long start = System.nanoTime();
+            withUpdatesPaused(() -> recordedDeltas = new ConcurrentLinkedQueue<>());
+            LocalDate from = LocalDate.now().minusDays(properties.history().toDays());
+            LocalDateTime lastCheckOut = roomStayRepository.findLastCheckOut();
+            LocalDate to = lastCheckOut == null || !lastCheckOut.toLocalDate().isAfter(from) ? from.plusDays(1)
+                    : lastCheckOut.toLocalDate().plusDays(1);
+
+            Snapshot snapshot;
+            try (ForkJoinPool pool = new ForkJoinPool(properties.rebuildParallelism())) {
+                snapshot = pool.invoke(new RebuildTask(from, to));
+            }
+            ConcurrentMap<Key, Tally> tallies = new ConcurrentHashMap<>(snapshot.totals().size());
+            snapshot.totals().forEach((key, total) -> {
+                Tally tally = new Tally();
+                tally.nights().add(total[0]);
+                tally.revenueCents().add(total[1]);
+                tallies.put(key, tally);
+            });
+            Counters rebuilt = new Counters(from, tallies);
+            // Nights past the last check-out were read by no chunk.
+            List<Chunk> chunks = new ArrayList<>(snapshot.chunks());
+            chunks.add(new Chunk(to, LocalDate.MAX, new HashSet<>()));
+            int[] replayed = new int[1];
+            withUpdatesPaused(() -> {
+                replayed[0] = recordedDeltas.size();
+                recordedDeltas.forEach(delta -> replay(delta, chunks, rebuilt));
+                recordedDeltas = null;
+                counters = rebuilt;
+            });
+            log.atInfo()
+                    .setMessage("Occupancy counters rebuilt")
+                    .addKeyValue("from", from)
+                    .addKeyValue("to", to)
+                    .addKeyValue("counters", tallies.size())
+                    .addKeyValue("replayedChanges", replayed[0])
+                    .addKeyValue("elapsedMs", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start))
+                    .log();
+            return true;
+        } finally {
+            withUpdatesPaused(() -> recordedDeltas = null);
+            rebuildLock.unlock();
+        }
+    }
+
+    private void update(Collection<RoomStayRow> stays, int sign) {
+        updateLock.readLock().lock();
+        try {
+            Counters current = counters;
+            stays.forEach(stay -> forEachNight(stay, current.from(), LocalDate.MAX, day -> count(current, day, stay, sign)));
+            Queue<Delta> deltas = recordedDeltas;
+            if (deltas != null) {
+                stays.forEach(stay -> deltas.add(new Delta(stay, sign)));
+            }
+        } finally {
+            updateLock.readLock().unlock();
+        }
+    }
+
+    private void withUpdatesPaused(Runnable action) {
+        updateLock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            updateLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Applies a change recorded during a rebuild to the rebuilt counters, in each chunk whose query did not
+     * already see it: an added stay is counted where it was not read, a removed stay discounted where it was.
+     */
+    private static void replay(Delta delta, List<Chunk> chunks, Counters rebuilt) {
+        RoomStayRow stay = delta.stay();
+        for (Chunk chunk : chunks) {
+            boolean changed = delta.sign() > 0 ? chunk.stayIds().add(stay.id()) : chunk.stayIds().remove(stay.id());
+            if (changed) {
+                LocalDate from = chunk.from().isBefore(rebuilt.from()) ? rebuilt.from() : chunk.from();
+                forEachNight(stay, from, chunk.to(), day -> count(rebuilt, day, stay, delta.sign()));
+            }
+        }
+    }
+
+    private static void count(Counters counters, LocalDate day, RoomStayRow stay, int sign) {
+        Tally tally = counters.tallies().computeIfAbsent(new Key(day, stay.type()), key -> new Tally());
+        tally.nights().add(sign);
+        tally.revenueCents().add(sign * cents(stay.price()));
+    }
+
+    /**
+     * Visits each night of a stay within a range of days. A stay counts one night per day from its
+     * check-in day up to, excluding, its check-out day, and at least one night.
+     */
+    private static void forEachNight(RoomStayRow stay, LocalDate from, LocalDate to, Consumer<LocalDate> action) {
+        LocalDate checkIn = stay.checkIn().toLocalDate();
+        LocalDate checkOut = stay.checkOut().toLocalDate();
+        if (!checkOut.isAfter(checkIn)) {
+            checkOut = checkIn.plusDays(1);
+        }
+        LocalDate first = checkIn.isBefore(from) ? from : checkIn;
+        LocalDate end = checkOut.isAfter(to) ? to : checkOut;
+        for (LocalDate day = first; day.isBefore(end); day = day.plusDays(1)) {
+            action.accept(day);
+        }
+    }
+
+    private static long cents(BigDecimal price) {
+        return price == null ? 0 : price.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValue();
+    }
+
+    /**
+     * Reads the stays of a range of days, splitting it in halves until each part fits in one query.
+     * Each part only counts the nights within its own days, so stays spanning several parts are counted once.
+     */
+    private final class RebuildTask extends RecursiveTask<Snapshot> {
+
+        private final LocalDate from;
+        private final LocalDate to;
+
+        RebuildTask(LocalDate from, LocalDate to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Snapshot compute() {
+            long days = ChronoUnit.DAYS.between(from, to);
+            if (days > REBUILD_CHUNK_DAYS) {
+                LocalDate middle = from.plusDays(days / 2);
+                RebuildTask left = new RebuildTask(from, middle);
+                left.fork();
+                Snapshot snapshot = new RebuildTask(middle, to).compute();
+                Snapshot leftSnapshot = left.join();
+                leftSnapshot.totals().forEach((key, total) -> snapshot.totals().merge(key, total, (a, b) -> new long[]{a[0] + b[0], a[1] + b[1]}));
+                snapshot.chunks().addAll(leftSnapshot.chunks());
+                return snapshot;
+            }
+            List<RoomStayRow> stays = roomStayRepository.findRowsBetween(from.atStartOfDay(), to.atStartOfDay());
+            Map<Key, long[]> totals = new HashMap<>();
+            Set<Long> stayIds = new HashSet<>(stays.size() * 2);
+            stays.forEach(stay -> {
+                stayIds.add(stay.id());
+                forEachNight(stay, from, to, day -> {
+                    long[] total = totals.computeIfAbsent(new Key(day, stay.type()), key -> new long[2]);
+                    total[0]++;
+                    total[1] += cents(stay.price());
+                });
+            });
+            List<Chunk> chunks = new ArrayList<>();
+            chunks.add(new Chunk(from, to, stayIds));
+            return new Snapshot(totals, chunks);
+        }
+    }
+
+    private record Key(LocalDate day, RoomType type) {
+    }
+
+    private record Tally(LongAdder nights, LongAdder revenueCents) {
+
+        Tally() {
+            this(new LongAdder(), new LongAdder());
+        }
+    }
+
+    private record Counters(LocalDate from, ConcurrentMap<Key, Tally> tallies) {
+    }
+
+    /**
+     * The totals read by a rebuild, with the stays read for each range of days.
+     */
+    private record Snapshot(Map<Key, long[]> totals, List<Chunk> chunks) {
+    }
+
+    /**
+     * A range of days read by one query of a rebuild and the IDs of the stays it saw.
+     */
+    private record Chunk(LocalDate from, LocalDate to, Set<Long> stayIds) {
+    }
+
+    /**
+     * A stay added (sign 1) or removed (sign -1) while a rebuild was running.
+     */
+    private record Delta(RoomStayRow stay, int sign) {
+    }
+}
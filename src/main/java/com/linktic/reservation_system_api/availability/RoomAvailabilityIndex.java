@@ -0,0 +1,138 @@
+package com.linktic.reservation_system_api.availability;
+
+import com.linktic.reservation_system_api.dto.RoomOccupancy;
+import com.linktic.reservation_system_api.entity.Room;
+import com.linktic.reservation_system_api.repository.RoomRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * In-memory index of room availability.
+ * Keeps one sorted timeline of booked stays per room so that conflict checks on the
+ * booking path are answered without a database round trip. Stays that already ended are not loaded. The index is hydrated from
+ * the database at startup and must be kept current by the services that change bookings.
+ */
+@RequiredArgsConstructor
+@Slf4j
+@Component
+public class RoomAvailabilityIndex implements SmartInitializingSingleton {
+
+    private final RoomRepository roomRepository;
+    private final ConcurrentMap<Long, RoomTimeline> timelines = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, Set<Long>> roomIdsByReservation = new ConcurrentHashMap<>();
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        hydrate(roomRepository.findOccupanciesEndingAfter(LocalDateTime.now()));
+        log.info("Availability index hydrated with {} rooms", timelines.size());
+    }
+
+    /**
+     * Starts tracking rooms the index does not know yet, e.g. rooms created after startup.
+     * Rooms already tracked are left untouched, as the index is their source of truth.
+     *
+     * @param rooms the rooms to track.
+     */
+    public void track(Collection<Room> rooms) {
+        hydrate(rooms.stream()
+                .filter(room -> !timelines.containsKey(room.getId()))
+                .map(room -> new RoomOccupancy(room.getId(), null, null, null))
+                .toList());
+    }
+
+    /**
+     * Checks whether a room can be booked for the given range, as far as its stays are concerned.
+     * The status of the room is checked by the caller, on the room it has loaded.
+     *
+     * @param roomId the ID of the room.
+     * @param from the start of the range.
+     * @param to the end of the range (exclusive).
+     * @param excludedReservationId a reservation whose stays are ignored, or null.
+     * @return true if the room is tracked and has no conflicting stay.
+     */
+    public boolean isAvailable(Long roomId, LocalDateTime from, LocalDateTime to, Long excludedReservationId) {
+        RoomTimeline timeline = timelines.get(roomId);
+        return timeline != null && timeline.isFree(from, to, excludedReservationId);
+    }
+
+    /**
+     * Checks whether a room has no stay overlapping the given range, for availability searches.
+     * Rooms the index does not track yet have no known stays and are reported as free.
+     *
+     * @param roomId the ID of the room.
+     * @param from the start of the range.
+     * @param to the end of the range (exclusive).
+     * @return true if the room has no conflicting stay.
+     */
+    public boolean isFree(Long roomId, LocalDateTime from, LocalDateTime to) {
+        RoomTimeline timeline = timelines.get(roomId);
+        return timeline == null || timeline.isFree(from, to, null);
+    }
+
+    /**
+     * Gets the rooms currently held by a reservation.
+     *
+     * @param reservationId the ID of the reservation.
+     * @return the IDs of its rooms, or an empty set if the reservation is unknown.
+     */
+    public Set<Long> getRoomIds(Long reservationId) {
+        Set<Long> roomIds = roomIdsByReservation.get(reservationId);
+        return roomIds == null ? Set.of() : Set.copyOf(roomIds);
+    }
+
+    /**
+     * Records a stay of a reservation on the given rooms.
+     *
+     * @param reservationId the ID of the reservation.
+     * @param roomIds the IDs of the reserved rooms.
+     * @param from the start of the stay.
+     * @param to the end of the stay (exclusive).
+     */
+    public void reserve(Long reservationId, Collection<Long> roomIds, LocalDateTime from, LocalDateTime to) {
+        roomIds.forEach(roomId -> {
+            RoomTimeline timeline = timelines.get(roomId);
+            if (timeline != null) {
+                timeline.book(reservationId, from, to);
+                roomIdsByReservation.computeIfAbsent(reservationId, id -> ConcurrentHashMap.newKeySet()).add(roomId);
+            }
+        });
+    }
+
+    /**
+     * Removes the stays of a reservation from all of its rooms.
+     *
+     * @param reservationId the ID of the reservation.
+     */
+    public void release(Long reservationId) {
+        Set<Long> roomIds = roomIdsByReservation.remove(reservationId);
+        if (roomIds == null) {
+            return;
+        }
+        roomIds.forEach(roomId -> {
+            RoomTimeline timeline = timelines.get(roomId);
+            if (timeline != null) {
+                timeline.release(reservationId);
+            }
+        });
+    }
+
+    private void hydrate(List<RoomOccupancy> occupancies) {
+        occupancies.forEach(occupancy -> {
+            RoomTimeline timeline = timelines.computeIfAbsent(occupancy.roomId(), roomId -> new RoomTimeline());
+            if (occupancy.reservationId() != null) {
+                timeline.book(occupancy.reservationId(), occupancy.checkIn(), occupancy.checkOut());
+                roomIdsByReservation.computeIfAbsent(occupancy.reservationId(), id -> ConcurrentHashMap.newKeySet())
+                        .add(occupancy.roomId());
+            }
+        });
+    }
+}
@@ -0,0 +1,76 @@
+package com.linktic.reservation_system_api.availability;
+
+import java.time.LocalDateTime;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Sorted timeline of the stays booked on a single room.
+ * Stays never overlap, so they are kept ordered by their start and a conflict check
+ * only walks back from the end of the requested range until a stay ends before it.
+ */
+final class RoomTimeline {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableMap<LocalDateTime, Stay> stays = new TreeMap<>();
+
+    /**
+     * Checks whether the room has no stay overlapping the given range.
+     * The status of the room is not tracked here; callers check it on the room itself.
+     *
+     * @param from the start of the range.
+     * @param to the end of the range (exclusive).
+     * @param excludedReservationId a reservation whose stays are ignored, or null.
+     * @return true if no other reservation has a stay overlapping the range.
+     */
+    boolean isFree(LocalDateTime from, LocalDateTime to, Long excludedReservationId) {
+        lock.readLock().lock();
+        try {
+            for (Stay stay : stays.headMap(to, false).descendingMap().values()) {
+                if (Objects.equals(stay.reservationId(), excludedReservationId)) {
+                    continue;
+                }
+                return !stay.end().isAfter(from);
+            }
+            return true;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    void book(Long reservationId, LocalDateTime from, LocalDateTime to) {
+        lock.writeLock().lock();
+        try {
+            stays.put(from, new Stay(reservationId, from, to));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes the stays of the given reservation.
+     *
+     * @param reservationId the ID of the reservation.
+     */
+    void release(Long reservationId) {
+        lock.writeLock().lock();
+        try {
+            stays.values().removeIf(stay -> Objects.equals(stay.reservationId(), reservationId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * A booked range on the room.
+     *
+     * @param reservationId the reservation owning the stay.
+     * @param start the start of the stay.
+     * @param end the end of the stay (exclusive).
+     */
+    record Stay(Long reservationId, LocalDateTime start, LocalDateTime end) {
+    }
+}
@@ -0,0 +1,234 @@
+package com.linktic.reservation_system_api.cache;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.linktic.reservation_system_api.config.CachingProperties;
+import com.linktic.reservation_system_api.dto.RoomView;
+import com.linktic.reservation_system_api.event.RoomStatusChangedEvent;
+import com.linktic.reservation_system_api.repository.RoomRepository;
+import com.linktic.reservation_system_api.util.RoomStatus;
+import com.linktic.reservation_system_api.util.RoomType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Cache of the room catalog.
+ * The static attributes of rooms (number, type, price) rarely change and are cached per room type
+ * with a time to live, bounded by the number of room types cached. Room statuses change on every booking,
+ * so they are kept apart and patched from {@link RoomStatusChangedEvent}s instead of invalidating the catalog.
+ * A reload never overwrites a patch committed after it started reading, which it may have missed.
+ * The rooms of each type are also kept ordered by price, so price ranges are found by binary search.
+ * The number of rooms in each status is kept alongside the statuses, so it is read without copying the catalog.
+ */
+@Slf4j
+@Component
+public class RoomCatalogCache implements SmartInitializingSingleton {
+
+    /**
+     * Name under which the cache metrics are published.
+     */
+    public static final String CACHE_NAME = "roomCatalog";
+
+    private final RoomRepository roomRepository;
+    private final LoadingCache<RoomType, TypeCatalog> catalog;
+    private final ConcurrentMap<Long, PatchedStatus> statuses = new ConcurrentHashMap<>();
+    private final AtomicLong patches = new AtomicLong();
+    private final Map<RoomStatus, AtomicLong> statusCounts = new EnumMap<>(RoomStatus.class);
+
+    public RoomCatalogCache(RoomRepository roomRepository, CachingProperties properties, MeterRegistry meterRegistry) {
+        this.roomRepository = roomRepository;
+        for (RoomStatus status : RoomStatus.values()) {
+            statusCounts.put(status, new AtomicLong());
+        }
+        this.catalog = Caffeine.newBuilder()
+                .maximumSize(properties.rooms().maxSize())
+                .expireAfterWrite(properties.rooms().ttl())
+                .recordStats()
+                .build(new CacheLoader<>() {
+                    @Override
+                    public TypeCatalog load(RoomType type) {
+                        return loadAll(Set.of(type)).get(type);
+                    }
+
+                    @Override
+                    public Map<RoomType, TypeCatalog> loadAll(Set<? extends RoomType> types) {
+                        return loadCatalog(types);
+                    }
+                });
+        CaffeineCacheMetrics.monitor(meterRegistry, catalog, CACHE_NAME);
+    }
+
+    /**
+     * Loads the whole catalog once the application context is ready, so the status counts start out seeded.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        catalog.getAll(EnumSet.allOf(RoomType.class));
+    }
+
+    /**
+     * Gets every room of the catalog with its current status, grouped by room type and ordered by ID.
+     *
+     * @return the read models of all rooms.
+     */
+    public List<RoomView> getAll() {
+        // Bulk loads run outside of the cache's map locks, so a miss never pins a virtual thread.
+        Map<RoomType, TypeCatalog> rooms = catalog.getAll(EnumSet.allOf(RoomType.class));
+        List<RoomView> result = new ArrayList<>();
+        for (RoomType type : RoomType.values()) {
+            rooms.get(type).byId().forEach(room -> result.add(withCurrentStatus(room)));
+        }
+        return result;
+    }
+
+    /**
+     * Gets the rooms of a type within a price range, with their current status, ordered by price.
+     * Rooms without a price are only included when no price bound is given.
+     *
+     * @param type the room type.
+     * @param minPrice the minimum price (inclusive), or null for no lower bound.
+     * @param maxPrice the maximum price (inclusive), or null for no upper bound.
+     * @return the read models of the matching rooms.
+     */
+    public List<RoomView> findByTypeAndPrice(RoomType type, BigDecimal minPrice, BigDecimal maxPrice) {
+        List<RoomView> byPrice = catalog.getAll(Set.of(type)).get(type).byPrice();
+        int from = 0;
+        int to = byPrice.size();
+        if (minPrice != null || maxPrice != null) {
+            // Rooms without a price are sorted last; they never match a bound.
+            to = firstIndex(byPrice, 0, to, room -> room.price() == null);
+        }
+        if (minPrice != null) {
+            from = firstIndex(byPrice, from, to, room -> room.price().compareTo(minPrice) >= 0);
+        }
+        if (maxPrice != null) {
+            to = firstIndex(byPrice, from, to, room -> room.price().compareTo(maxPrice) > 0);
+        }
+        List<RoomView> result = new ArrayList<>(to - from);
+        byPrice.subList(from, to).forEach(room -> result.add(withCurrentStatus(room)));
+        return result;
+    }
+
+    /**
+     * Counts the rooms of the catalog in a status.
+     *
+     * @param status the room status.
+     * @return the number of rooms loaded into the catalog that are currently in the status.
+     */
+    public long countInStatus(RoomStatus status) {
+        return statusCounts.get(status).get();
+    }
+
+    /**
+     * Patches the status of the rooms once the change is committed.
+     *
+     * @param event the status change.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRoomStatusChanged(RoomStatusChangedEvent event) {
+        long patch = patches.incrementAndGet();
+        event.roomIds().forEach(roomId -> updateStatus(roomId, new PatchedStatus(event.status(), patch)));
+    }
+
+    /**
+     * Sets the status of a room, moving it between the status counts, unless the status held is a newer patch.
+     */
+    private void updateStatus(Long roomId, PatchedStatus status) {
+        statuses.compute(roomId, (id, previous) -> {
+            if (previous != null && previous.patch() > status.patch()) {
+                return previous;
+            }
+            if (previous != null && previous.status() != null) {
+                statusCounts.get(previous.status()).decrementAndGet();
+            }
+            if (status.status() != null) {
+                statusCounts.get(status.status()).incrementAndGet();
+            }
+            return status;
+        });
+    }
+
+    private RoomView withCurrentStatus(RoomView room) {
+        PatchedStatus status = statuses.get(room.id());
+        if (status == null || status.status() == room.status()) {
+            return room;
+        }
+        return new RoomView(room.id(), room.roomNumber(), room.type(), status.status(), room.price());
+    }
+
+    private Map<RoomType, TypeCatalog> loadCatalog(Set<? extends RoomType> types) {
+        // Patches committed before the query started are visible to it; later ones are kept over what it read.
+        long patch = patches.get();
+        List<RoomView> rooms = roomRepository.findViewsByTypeIn(types);
+        rooms.forEach(room -> updateStatus(room.id(), new PatchedStatus(room.status(), patch)));
+        log.info("Loaded {} rooms of types {} into the room catalog", rooms.size(), types);
+        Map<RoomType, List<RoomView>> roomsByType = rooms.stream()
+                .collect(Collectors.groupingBy(RoomView::type, Collectors.toList()));
+        Map<RoomType, TypeCatalog> catalogs = new EnumMap<>(RoomType.class);
+        types.forEach(type -> catalogs.put(type, TypeCatalog.of(roomsByType.getOrDefault(type, List.of()))));
+        return catalogs;
+    }
+
+    /**
+     * Finds the first index in a range of a list whose element matches a predicate,
+     * given that the predicate holds for every element after the first match.
+     */
+    private static int firstIndex(List<RoomView> rooms, int from, int to, Predicate<RoomView> predicate) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (predicate.test(rooms.get(middle))) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * The status of a room, with the number of the last patch applied when it was set.
+     *
+     * @param status the status of the room.
+     * @param patch the number of the patch, or of the last patch before the load that read the status.
+     */
+    private record PatchedStatus(RoomStatus status, long patch) {
+    }
+
+    /**
+     * The rooms of one type, in ID order and in price order.
+     *
+     * @param byId the rooms ordered by ID.
+     * @param byPrice the rooms ordered by price, then ID, with rooms without a price last.
+     */
+    private record TypeCatalog(List<RoomView> byId, List<RoomView> byPrice) {
+
+        private static final Comparator<RoomView> PRICE_ORDER = Comparator
+                .comparing(RoomView::price, Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparing(RoomView::id);
+
+        static TypeCatalog of(List<RoomView> rooms) {
+            return new TypeCatalog(List.copyOf(rooms), rooms.stream().sorted(PRICE_ORDER).toList());
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.linktic.reservation_system_api.cache;
+
+import com.linktic.reservation_system_api.entity.User;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JPA entity listener keeping the {@link UserLookupCache} in line with the users table.
+ * The user is evicted as soon as the change is flushed and again once it is committed, so a
+ * lookup running concurrently with the transaction cannot leave the previous state cached.
+ */
+@Component
+public class UserCacheInvalidator {
+
+    /**
+     * Resolved lazily, as entity listeners are created with the entity manager factory the cache depends on.
+     */
+    private final ObjectProvider<UserLookupCache> userLookupCache;
+
+    public UserCacheInvalidator(ObjectProvider<UserLookupCache> userLookupCache) {
+        this.userLookupCache = userLookupCache;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onUserChanged(User user) {
+        Long userId = user.getId();
+        String email = user.getEmail();
+        userLookupCache.ifAvailable(cache -> cache.evict(userId, email));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    userLookupCache.ifAvailable(cache -> cache.evict(userId, email));
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.linktic.reservation_system_api.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.linktic.reservation_system_api.config.CachingProperties;
+import com.linktic.reservation_system_api.dto.UserView;
+import com.linktic.reservation_system_api.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache of user lookups by email, the key clients send with every reservation request.
+ * Both found and unknown emails are cached: found users for the configured time to live,
+ * unknown emails for a shorter one so users created outside the application show up quickly.
+ * Entries are evicted by {@link UserCacheInvalidator} whenever a user is changed through JPA; a lookup
+ * that started loading before an eviction never keeps its result cached, as it may predate the change.
+ */
+@Slf4j
+@Component
+public class UserLookupCache {
+
+    /**
+     * Name under which the cache metrics are published.
+     */
+    public static final String CACHE_NAME = "userLookup";
+
+    private final UserRepository userRepository;
+    private final Cache<String, Optional<UserView>> users;
+    private final AtomicLong evictions = new AtomicLong();
+
+    public UserLookupCache(UserRepository userRepository, CachingProperties properties, MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        Duration ttl = properties.users().ttl();
+        Duration negativeTtl = properties.users().negativeTtl();
+        this.users = Caffeine.newBuilder()
+                .maximumSize(properties.users().maxSize())
+                .expireAfter(new Expiry<String, Optional<UserView>>() {
+                    @Override
+                    public long expireAfterCreate(String email, Optional<UserView> user, long currentTime) {
+                        return (user.isPresent() ? ttl : negativeTtl).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String email, Optional<UserView> user, long currentTime, long currentDuration) {
+                        return expireAfterCreate(email, user, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String email, Optional<UserView> user, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, users, CACHE_NAME);
+    }
+
+    /**
+     * Finds a user by email.
+     *
+     * @param email the email of the user.
+     * @return the read model of the user, or empty if no user has the email.
+     */
+    public Optional<UserView> findByEmail(String email) {
+        Optional<UserView> user = users.getIfPresent(email);
+        if (user == null) {
+            // Loaded outside of the cache's map locks: a query under a monitor would pin a virtual thread.
+            // Concurrent misses on the same email may both query, which is harmless.
+            long generation = evictions.get();
+            user = userRepository.findByEmail(email).map(UserView::from);
+            users.put(email, user);
+            // An eviction since the load started may have run before the put: the result is withdrawn.
+            // Evictions count before invalidating, so one counted after this check removes it instead.
+            if (evictions.get() != generation) {
+                users.asMap().remove(email, user);
+            }
+        }
+        return user;
+    }
+
+    /**
+     * Evicts the entries of a user, under its current email and any email it was previously cached under.
+     *
+     * @param userId the ID of the user, or null if not yet assigned.
+     * @param email the current email of the user, or null if none.
+     */
+    public void evict(Long userId, String email) {
+        evictions.incrementAndGet();
+        if (email != null) {
+            users.invalidate(email);
+        }
+        if (userId != null) {
+            users.asMap().values().removeIf(user -> user.isPresent() && userId.equals(user.get().id()));
+        }
+        log.debug("Evicted user {} ({}) from the user lookup cache", userId, email);
+    }
+
+    /**
+     * Evicts every entry, for changes made to users outside of JPA.
+     */
+    public void evictAll() {
+        evictions.incrementAndGet();
+        users.invalidateAll();
+        log.info("Cleared the user lookup cache");
+    }
+}
@@ -0,0 +1,16 @@
+package com.linktic.reservation_system_api.concurrency;
+
+/**
+ * Thrown when a booking loses a race against a concurrent change of the same rooms.
+ * The booking transaction is rolled back and may be retried.
+ */
+public class BookingConflictException extends RuntimeException {
+
+    public BookingConflictException(String message) {
+        super(message);
+    }
+
+    public BookingConflictException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,84 @@
+package com.linktic.reservation_system_api.concurrency;
+
+import com.linktic.reservation_system_api.config.BookingProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Striped in-process locks keyed by room ID.
+ * Bookings on the same rooms serialize on a small fixed set of locks, while bookings on
+ * unrelated rooms proceed in parallel. Stripes are always acquired in ascending order,
+ * so bookings spanning several rooms cannot deadlock each other.
+ */
+@Component
+public class RoomLocks {
+
+    private final ReentrantLock[] stripes;
+    private final long timeoutNanos;
+
+    public RoomLocks(BookingProperties properties) {
+        int size = properties.lockStripes() <= 1 ? 1 : Integer.highestOneBit(properties.lockStripes() - 1) << 1;
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.timeoutNanos = properties.lockTimeout().toNanos();
+    }
+
+    /**
+     * Acquires the locks guarding the given rooms.
+     *
+     * @param roomIds the IDs of the rooms to lock.
+     * @return a handle releasing the locks when closed.
+     * @throws BookingConflictException if the locks could not be acquired within the configured timeout.
+     */
+    public Held lock(Collection<Long> roomIds) {
+        int[] indexes = roomIds.stream()
+                .mapToInt(this::stripeOf)
+                .distinct()
+                .sorted()
+                .toArray();
+        long deadline = System.nanoTime() + timeoutNanos;
+        int acquired = 0;
+        try {
+            for (int index : indexes) {
+                if (!stripes[index].tryLock(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                    throw new BookingConflictException("Timed out waiting for the room locks");
+                }
+                acquired++;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BookingConflictException("Interrupted while waiting for the room locks");
+        } finally {
+            if (acquired < indexes.length) {
+                unlock(indexes, acquired);
+            }
+        }
+        return () -> unlock(indexes, indexes.length);
+    }
+
+    private void unlock(int[] indexes, int count) {
+        for (int i = count - 1; i >= 0; i--) {
+            stripes[indexes[i]].unlock();
+        }
+    }
+
+    private int stripeOf(Long roomId) {
+        int hash = roomId.hashCode();
+        return (hash ^ (hash >>> 16)) & (stripes.length - 1);
+    }
+
+    /**
+     * Handle over a set of acquired room locks.
+     */
+    @FunctionalInterface
+    public interface Held extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,30 @@
+package com.linktic.reservation_system_api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the admission control of booking requests.
+ *
+ * @param enabled whether booking requests go through admission control.
+ * @param rate the number of booking requests each client may make per second, on average.
+ * @param burst the number of booking requests a client may make at once after being idle.
+ * @param maxClients the maximum number of clients whose rate is tracked at once.
+ * @param idleTimeout the time after which the rate of an idle client is forgotten.
+ * @param maxConcurrentWrites the maximum number of booking requests served at once; kept below the size of
+ *                            the connection pool, so the remaining connections are left to read requests.
+ * @param maxWait the time a booking request may wait for one of the concurrent slots before being rejected.
+ * @param retryAfter the delay clients are told to wait when all the concurrent slots are taken.
+ */
+@ConfigurationProperties(prefix = "reservation.admission")
+public record AdmissionProperties(@DefaultValue("true") boolean enabled,
+                                  @DefaultValue("10") double rate,
+                                  @DefaultValue("20") int burst,
+                                  @DefaultValue("100000") int maxClients,
+                                  @DefaultValue("10m") Duration idleTimeout,
+                                  @DefaultValue("12") int maxConcurrentWrites,
+                                  @DefaultValue("20ms") Duration maxWait,
+                                  @DefaultValue("1s") Duration retryAfter) {
+}
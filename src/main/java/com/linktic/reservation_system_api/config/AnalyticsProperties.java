@@ -0,0 +1,21 @@
+package com.linktic.reservation_system_api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for occupancy analytics.
+ *
+ * @param history how far back from today the counters are rebuilt at startup and on schedule.
+ * @param rebuildParallelism the number of threads, and database connections, used to rebuild the counters.
+ * @param rebuildCron when the counters are reconciled with the database.
+ * @param maxRange the longest date range a single analytics request may cover.
+ */
+@ConfigurationProperties(prefix = "reservation.analytics")
+public record AnalyticsProperties(@DefaultValue("400d") Duration history,
+                                  @DefaultValue("4") int rebuildParallelism,
+                                  @DefaultValue("0 30 3 * * *") String rebuildCron,
+                                  @DefaultValue("800d") Duration maxRange) {
+}
@@ -0,0 +1,19 @@
+package com.linktic.reservation_system_api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the booking path.
+ *
+ * @param lockStripes the number of locks rooms are spread across, rounded up to a power of two.
+ * @param lockTimeout the maximum time to wait for the locks of the requested rooms.
+ * @param maxAttempts the maximum number of attempts of a booking that hits a concurrent change.
+ */
+@ConfigurationProperties(prefix = "reservation.booking")
+public record BookingProperties(@DefaultValue("1024") int lockStripes,
+                                @DefaultValue("2s") Duration lockTimeout,
+                                @DefaultValue("3") int maxAttempts) {
+}
@@ -0,0 +1,39 @@
+package com.linktic.reservation_system_api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the in-memory caches in front of the database.
+ *
+ * @param rooms the settings of the room catalog cache, whose entries are whole room types.
+ * @param users the settings of the user lookup cache.
+ */
+@ConfigurationProperties(prefix = "reservation.cache")
+public record CachingProperties(@DefaultValue Spec rooms,
+                                @DefaultValue LookupSpec users) {
+
+    /**
+     * Settings of a single cache.
+     *
+     * @param maxSize the maximum number of entries kept in the cache.
+     * @param ttl the time after which an entry is reloaded from the database.
+     */
+    public record Spec(@DefaultValue("100000") long maxSize,
+                       @DefaultValue("10m") Duration ttl) {
+    }
+
+    /**
+     * Settings of a lookup cache that also remembers keys not found in the database.
+     *
+     * @param maxSize the maximum number of entries kept in the cache.
+     * @param ttl the time after which a found entry is reloaded from the database.
+     * @param negativeTtl the time after which a key that was not found is looked up again.
+     */
+    public record LookupSpec(@DefaultValue("10000") long maxSize,
+                             @DefaultValue("10m") Duration ttl,
+                             @DefaultValue("30s") Duration negativeTtl) {
+    }
+}
@@ -0,0 +1,21 @@
+package com.linktic.reservation_system_api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for room holds.
+ *
+ * @param ttl the time a hold keeps its rooms before lapsing.
+ * @param maxRooms the maximum number of rooms a single hold may cover.
+ * @param tick the precision with which lapsed holds are released.
+ * @param wheelSize the number of slots of the timing wheel expiring holds; one turn spans this many ticks.
+ */
+@ConfigurationProperties(prefix = "reservation.holds")
+public record HoldProperties(@DefaultValue("10m") Duration ttl,
+                             @DefaultValue("10") int maxRooms,
+                             @DefaultValue("1s") Duration tick,
+                             @DefaultValue("1024") int wheelSize) {
+}
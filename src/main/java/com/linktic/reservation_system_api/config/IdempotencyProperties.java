@@ -0,0 +1,22 @@
+package com.linktic.reservation_system_api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for idempotent request handling.
+ *
+ * @param store where the responses of idempotent requests are kept: {@code memory} or {@code jdbc}.
+ * @param maxSize the maximum number of responses kept by the in-memory store.
+ * @param ttl the time during which a key replays its stored response.
+ * @param claimTimeout the time after which a key claimed by a request that never completed, e.g. on a node that
+ *                     stopped, can be claimed again.
+ */
+@ConfigurationProperties(prefix = "reservation.idempotency")
+public record IdempotencyProperties(@DefaultValue("memory") String store,
+                                    @DefaultValue("10000") long maxSize,
+                                    @DefaultValue("24h") Duration ttl,
+                                    @DefaultValue("1m") Duration claimTimeout) {
+}
@@ -0,0 +1,23 @@
+package com.linktic.reservation_system_api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the reservation event outbox.
+ *
+ * @param batchSize the maximum number of events published per drain.
+ * @param pollInterval the delay between two drains of the outbox.
+ * @param retention the time published events are kept, for consumers resuming a stream.
+ * @param streamTimeout the time after which an event stream is closed; clients reconnect with the last event ID.
+ * @param filePath a file to append published events to as newline-delimited JSON, or null for none.
+ */
+@ConfigurationProperties(prefix = "reservation.outbox")
+public record OutboxProperties(@DefaultValue("500") int batchSize,
+                               @DefaultValue("1s") Duration pollInterval,
+                               @DefaultValue("24h") Duration retention,
+                               @DefaultValue("30m") Duration streamTimeout,
+                               String filePath) {
+}
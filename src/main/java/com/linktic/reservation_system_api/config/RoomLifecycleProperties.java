@@ -0,0 +1,21 @@
+package com.linktic.reservation_system_api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the scheduled room status transitions.
+ *
+ * @param batchSize the maximum number of rooms moved per statement and transaction.
+ * @param interval the delay between two runs of the transitions.
+ * @param reservedLeadTime how long before check-in an available room is marked as reserved.
+ * @param cleaningDuration how long a room stays in cleaning after check-out.
+ */
+@ConfigurationProperties(prefix = "reservation.lifecycle")
+public record RoomLifecycleProperties(@DefaultValue("500") int batchSize,
+                                      @DefaultValue("1m") Duration interval,
+                                      @DefaultValue("12h") Duration reservedLeadTime,
+                                      @DefaultValue("2h") Duration cleaningDuration) {
+}
@@ -0,0 +1,12 @@
+package com.linktic.reservation_system_api.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables the scheduled maintenance tasks.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,92 @@
+package com.linktic.reservation_system_api.controller;
+
+import com.linktic.reservation_system_api.dto.OccupancyStats;
+import com.linktic.reservation_system_api.dto.Response;
+import com.linktic.reservation_system_api.service.AnalyticsService;
+import com.linktic.reservation_system_api.util.Granularity;
+import com.linktic.reservation_system_api.util.RoomType;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * REST controller for occupancy and revenue analytics.
+ */
+@Tag(name = "Analytics API", description = "API for occupancy and revenue analytics")
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/analytics")
+@CrossOrigin(origins = "http://localhost:4200")
+public class AnalyticsController {
+
+    /**
+     * Service for computing analytics.
+     */
+    private final AnalyticsService analyticsService;
+
+    /**
+     * Endpoint to get the occupancy and revenue per period and room type.
+     *
+     * @param from the first day of the range.
+     * @param to the last day of the range (exclusive).
+     * @param granularity the size of the periods. Optional parameter, daily by default.
+     * @param roomType the type of room. Optional parameter.
+     * @return ResponseEntity containing the statistics and HTTP status.
+     */
+    @Operation(summary = "Get occupancy", description = "Occupancy rate, booked nights and revenue per day or week and room type.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Occupancy retrieved successfully",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = OccupancyStats.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid date range")
+    })
+    @GetMapping("/occupancy")
+    public ResponseEntity<Response<List<OccupancyStats>>> getOccupancy(
+            @Parameter(description = "First day of the range", example = "2024-03-01")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+
+            @Parameter(description = "Last day of the range (exclusive)", example = "2024-04-01")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+
+            @Parameter(description = "Size of the periods")
+            @RequestParam(defaultValue = "DAY") Granularity granularity,
+
+            @Parameter(description = "Type of room")
+            @RequestParam(required = false) RoomType roomType) {
+        Response<List<OccupancyStats>> stats = analyticsService.getOccupancy(from, to, granularity, roomType);
+        return new ResponseEntity<>(stats, HttpStatusCode.valueOf(stats.getStatusCode()));
+    }
+
+    /**
+     * Endpoint to recompute the analytics from the stored reservations.
+     *
+     * @return ResponseEntity containing the result and HTTP status.
+     */
+    @Operation(summary = "Rebuild analytics", description = "Recompute the occupancy counters from the stored reservations.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Analytics rebuilt successfully"),
+            @ApiResponse(responseCode = "409", description = "A rebuild is already running")
+    })
+    @PostMapping("/rebuild")
+    public ResponseEntity<Response<Void>> rebuild() {
+        Response<Void> response = analyticsService.rebuild();
+        return new ResponseEntity<>(response, HttpStatusCode.valueOf(response.getStatusCode()));
+    }
+}
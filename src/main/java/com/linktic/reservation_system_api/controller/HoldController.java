@@ -0,0 +1,110 @@
+package com.linktic.reservation_system_api.controller;
+
+import com.linktic.reservation_system_api.dto.Response;
+import com.linktic.reservation_system_api.dto.RoomHoldDTO;
+import com.linktic.reservation_system_api.dto.RoomHoldView;
+import com.linktic.reservation_system_api.service.HoldService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for handling requests related to room holds.
+ * A hold keeps rooms for a stay while the guest completes the checkout; it is converted by creating the
+ * reservation with its ID, or lapses on its own.
+ */
+@Tag(name = "Hold API", description = "API for holding rooms during checkout")
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/holds")
+@CrossOrigin(origins = "http://localhost:4200")
+public class HoldController {
+
+    /**
+     * Service for managing room holds.
+     */
+    private final HoldService holdService;
+
+    /**
+     * Holds rooms for a stay.
+     *
+     * @param hold the rooms, stay and user of the hold.
+     * @return the created hold, with the date when it lapses.
+     */
+    @Operation(summary = "Hold rooms", description = "Hold rooms for a stay while the checkout is completed.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "Rooms held successfully",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = RoomHoldView.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid hold"),
+            @ApiResponse(responseCode = "404", description = "User or room not found"),
+            @ApiResponse(responseCode = "409", description = "Rooms not available"),
+            @ApiResponse(responseCode = "429", description = "Too many booking requests")
+    })
+    @PostMapping
+    public ResponseEntity<Response<RoomHoldView>> placeHold(@RequestBody RoomHoldDTO hold) {
+        Response<RoomHoldView> response = holdService.placeHold(hold);
+        return new ResponseEntity<>(response, HttpStatusCode.valueOf(response.getStatusCode()));
+    }
+
+    /**
+     * Retrieves a hold by its ID.
+     *
+     * @param id the ID of the hold.
+     * @return the hold, if it has not lapsed.
+     */
+    @Operation(summary = "Get a hold", description = "Retrieve a hold that has not lapsed.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Hold found"),
+            @ApiResponse(responseCode = "404", description = "Hold not found or expired")
+    })
+    @GetMapping("/{id}")
+    public ResponseEntity<Response<RoomHoldView>> getHold(
+            @Parameter(description = "ID of the hold", example = "1")
+            @PathVariable Long id) {
+        Response<RoomHoldView> response = holdService.getHold(id);
+        return new ResponseEntity<>(response, HttpStatusCode.valueOf(response.getStatusCode()));
+    }
+
+    /**
+     * Releases a hold before it lapses.
+     *
+     * @param id the ID of the hold.
+     * @param userEmail the email of the user who placed the hold.
+     * @return a success message if the hold was released.
+     */
+    @Operation(summary = "Release a hold", description = "Release the rooms of a hold before it lapses. Only the user who placed the hold can release it.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Hold released successfully"),
+            @ApiResponse(responseCode = "400", description = "User is required"),
+            @ApiResponse(responseCode = "403", description = "Hold placed by another user"),
+            @ApiResponse(responseCode = "404", description = "Hold not found or expired"),
+            @ApiResponse(responseCode = "429", description = "Too many booking requests")
+    })
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Response<Void>> releaseHold(
+            @Parameter(description = "ID of the hold", example = "1")
+            @PathVariable Long id,
+
+            @Parameter(description = "Email of the user who placed the hold", example = "user@link.tic")
+            @RequestParam(required = false) String userEmail) {
+        Response<Void> response = holdService.releaseHold(id, userEmail);
+        return new ResponseEntity<>(response, HttpStatusCode.valueOf(response.getStatusCode()));
+    }
+}
@@ -1,8 +1,15 @@
 package com.linktic.reservation_system_api.controller;
 
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linktic.reservation_system_api.dto.CursorPage;
 import com.linktic.reservation_system_api.dto.ReservationDTO;
+import com.linktic.reservation_system_api.dto.ReservationImportResult;
+import com.linktic.reservation_system_api.dto.ReservationView;
 import com.linktic.reservation_system_api.dto.Response;
-import com.linktic.reservation_system_api.entity.Reservation;
+import com.linktic.reservation_system_api.event.ReservationEvent;
+import com.linktic.reservation_system_api.idempotency.IdempotentRequests;
+import com.linktic.reservation_system_api.outbox.ReservationEventStream;
 import com.linktic.reservation_system_api.service.ReservationService;
 import com.linktic.reservation_system_api.util.RoomType;
 import io.swagger.v3.oas.annotations.Operation;
@@ -15,9 +22,15 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -32,26 +45,36 @@ import java.util.List;
 @CrossOrigin(origins = "http://localhost:4200")
 public class ReservationController {
 
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private final ReservationService reservationService;
+    private final IdempotentRequests idempotentRequests;
+    private final ReservationEventStream reservationEventStream;
+    private final ObjectMapper objectMapper;
 
     /**
-     * Retrieves reservations that match the provided filters.
+     * Retrieves a page of reservations that match the provided filters.
+     * Reservations are ordered by reservation date and ID; the next page is requested with the
+     * cursor returned in the current one.
      *
      * @param startDate The start date of the reservation range. Optional parameter.
      * @param endDate The end date of the reservation range. Optional parameter.
      * @param roomType The type of room to filter by. Optional parameter.
-     * @param userId The ID of the user who made the reservation. Optional parameter.
-     * @return A ResponseEntity containing the list of reservations matching the provided filters.
+     * @param userEmail The email of the user who made the reservation. Optional parameter.
+     * @param cursor The cursor returned with the previous page. Optional parameter.
+     * @param size The maximum number of reservations in the page. Optional parameter.
+     * @return A ResponseEntity containing the page of reservations matching the provided filters.
      */
-    @Operation(summary = "Get reservations with filters", description = "Retrieve reservations based on optional filters such as reservation date range, room type, and user.")
+    @Operation(summary = "Get reservations with filters", description = "Retrieve a page of reservations based on optional filters such as reservation date range, room type, and user.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Reservations retrieved successfully",
                     content = @Content(mediaType = "application/json",
-                            schema = @Schema(implementation = Reservation.class))),
+                            schema = @Schema(implementation = ReservationView.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @GetMapping
-    public ResponseEntity<Response<List<Reservation>>> getReservations(
+    public ResponseEntity<Response<CursorPage<ReservationView>>> getReservations(
             @Parameter(description = "Start date for filtering reservations", example = "2024-08-14T00:00:00")
             @RequestParam(value = "startDate", required = false)
             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
@@ -64,11 +87,72 @@ public class ReservationController {
             @RequestParam(required = false) RoomType roomType,
 
             @Parameter(description = "User Email for filtering reservations")
-            @RequestParam(required = false) String userEmail) {
-        Response<List<Reservation>> response = reservationService.getReservations(startDate, endDate, roomType, userEmail);
+            @RequestParam(required = false) String userEmail,
+
+            @Parameter(description = "Cursor returned with the previous page")
+            @RequestParam(required = false) String cursor,
+
+            @Parameter(description = "Maximum number of reservations in the page (capped at 500)", example = "50")
+            @RequestParam(required = false) Integer size) {
+        Response<CursorPage<ReservationView>> response = reservationService.getReservations(startDate, endDate, roomType, userEmail, cursor, size);
         return new ResponseEntity<>(response, HttpStatusCode.valueOf(response.getStatusCode()));
     }
 
+    /**
+     * Streams every reservation that matches the provided filters as newline-delimited JSON.
+     * Reservations are written as they are read from the database, so exports of any size use constant memory.
+     *
+     * @param startDate The start date of the reservation range. Optional parameter.
+     * @param endDate The end date of the reservation range. Optional parameter.
+     * @param roomType The type of room to filter by. Optional parameter.
+     * @param userEmail The email of the user who made the reservation. Optional parameter.
+     * @return A ResponseEntity streaming one reservation per line.
+     */
+    @Operation(summary = "Stream reservations with filters", description = "Stream all reservations matching the optional filters as newline-delimited JSON.")
+    @ApiResponse(responseCode = "200", description = "Reservations streamed successfully",
+            content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                    schema = @Schema(implementation = ReservationView.class)))
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamReservations(
+            @RequestParam(value = "startDate", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+
+            @RequestParam(value = "endDate", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+
+            @RequestParam(required = false) RoomType roomType,
+
+            @RequestParam(required = false) String userEmail) {
+        StreamingResponseBody body = outputStream -> reservationService.streamReservations(startDate, endDate, roomType, userEmail,
+                reservation -> {
+                    try {
+                        outputStream.write(objectMapper.writeValueAsBytes(reservation));
+                        outputStream.write('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    /**
+     * Streams reservation changes as Server-Sent Events, as they are committed.
+     * Clients reconnecting with the ID of the last event they received get the events they missed first.
+     *
+     * @param lastEventId the ID of the last event received, sent by clients when reconnecting. Optional header.
+     * @return the emitter streaming the events.
+     */
+    @Operation(summary = "Stream reservation changes", description = "Push reservation created, updated and deleted events and room status changes as Server-Sent Events.")
+    @ApiResponse(responseCode = "200", description = "Event stream opened",
+            content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                    schema = @Schema(implementation = ReservationEvent.class)))
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEvents(
+            @Parameter(description = "ID of the last event received, to resume from")
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return reservationEventStream.subscribe(lastEventId);
+    }
+
     /**
      * Gets a reservation by its ID.
      *
@@ -81,25 +165,70 @@ public class ReservationController {
             @ApiResponse(responseCode = "404", description = "Reservation not found")
     })
     @GetMapping("/{id}")
-    public ResponseEntity<Response<Reservation>> getReservationById(@PathVariable Long id) {
-        Response<Reservation> response = reservationService.getReservationById(id);
+    public ResponseEntity<Response<ReservationView>> getReservationById(@PathVariable Long id) {
+        Response<ReservationView> response = reservationService.getReservationById(id);
         return new ResponseEntity<>(response, HttpStatusCode.valueOf(response.getStatusCode()));
     }
 
     /**
      * Creates a new reservation.
+     * Retries sent with the same idempotency key get the response of the first attempt without creating it again.
      *
      * @param reservation the reservation to be created.
+     * @param idempotencyKey a client-generated key identifying the reservation across retries. Optional header.
      * @return the created reservation with a success message.
      */
     @Operation(summary = "Create a new reservation", description = "Create a new reservation.")
-    @ApiResponse(responseCode = "201", description = "Reservation created successfully")
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "Reservation created successfully"),
+            @ApiResponse(responseCode = "409", description = "Reservation does not match its hold"),
+            @ApiResponse(responseCode = "410", description = "Hold not found or expired"),
+            @ApiResponse(responseCode = "422", description = "Idempotency key already used with a different request"),
+            @ApiResponse(responseCode = "429", description = "Too many booking requests")
+    })
     @PostMapping
-    public ResponseEntity<Response<Reservation>> createReservation(@RequestBody ReservationDTO reservation) {
-        Response<Reservation> response = reservationService.saveReservation(reservation);
+    public ResponseEntity<Response<ReservationView>> createReservation(
+            @RequestBody ReservationDTO reservation,
+            @Parameter(description = "Key identifying the reservation across retries")
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        Response<ReservationView> response = idempotentRequests.execute("create-reservation", idempotencyKey, reservation,
+                objectMapper.getTypeFactory().constructParametricType(Response.class, ReservationView.class),
+                () -> reservationService.saveReservation(reservation));
+        return new ResponseEntity<>(response, HttpStatusCode.valueOf(response.getStatusCode()));
+    }
+
+    /**
+     * Imports reservations in bulk from a JSON array.
+     *
+     * @param reservations the reservations to import.
+     * @return the result of every reservation, in import order.
+     */
+    @Operation(summary = "Import reservations in bulk", description = "Create many reservations at once from a JSON array, with a result per reservation.")
+    @ApiResponse(responseCode = "200", description = "Reservations imported; see the result of each one")
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Response<List<ReservationImportResult>>> importReservations(@RequestBody List<ReservationDTO> reservations) {
+        Response<List<ReservationImportResult>> response = reservationService.importReservations(reservations.iterator());
         return new ResponseEntity<>(response, HttpStatusCode.valueOf(response.getStatusCode()));
     }
 
+    /**
+     * Imports reservations in bulk from newline-delimited JSON.
+     * Reservations are read from the request as they are imported, so imports of any size use constant memory on input.
+     *
+     * @param body the request body, one reservation per line.
+     * @return the result of every reservation, in import order.
+     * @throws IOException if the request body cannot be read.
+     */
+    @Operation(summary = "Import reservations in bulk from NDJSON", description = "Create many reservations at once from newline-delimited JSON, with a result per reservation.")
+    @ApiResponse(responseCode = "200", description = "Reservations imported; see the result of each one")
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<Response<List<ReservationImportResult>>> importReservationStream(InputStream body) throws IOException {
+        try (MappingIterator<ReservationDTO> reservations = objectMapper.readerFor(ReservationDTO.class).readValues(body)) {
+            Response<List<ReservationImportResult>> response = reservationService.importReservations(reservations);
+            return new ResponseEntity<>(response, HttpStatusCode.valueOf(response.getStatusCode()));
+        }
+    }
+
     /**
      * Updates an existing reservation.
      *
@@ -110,11 +239,12 @@ public class ReservationController {
     @Operation(summary = "Update an existing reservation", description = "Update the details of an existing reservation.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Reservation updated successfully"),
-            @ApiResponse(responseCode = "404", description = "Reservation not found")
+            @ApiResponse(responseCode = "404", description = "Reservation not found"),
+            @ApiResponse(responseCode = "429", description = "Too many booking requests")
     })
     @PutMapping("/{id}")
-    public ResponseEntity<Response<Reservation>> updateReservation(@PathVariable Long id, @RequestBody ReservationDTO reservation) {
-        Response<Reservation> response = reservationService.updateReservation(id, reservation);
+    public ResponseEntity<Response<ReservationView>> updateReservation(@PathVariable Long id, @RequestBody ReservationDTO reservation) {
+        Response<ReservationView> response = reservationService.updateReservation(id, reservation);
         return new ResponseEntity<>(response, HttpStatusCode.valueOf(response.getStatusCode()));
     }
 
@@ -127,7 +257,8 @@ public class ReservationController {
     @Operation(summary = "Delete a reservation", description = "Delete a reservation by its ID.")
     @ApiResponses({
             @ApiResponse(responseCode = "204", description = "Reservation deleted successfully"),
-            @ApiResponse(responseCode = "404", description = "Reservation not found")
+            @ApiResponse(responseCode = "404", description = "Reservation not found"),
+            @ApiResponse(responseCode = "429", description = "Too many booking requests")
     })
     @DeleteMapping("/{id}")
     public ResponseEntity<Response<Void>> deleteReservation(@PathVariable Long id) {
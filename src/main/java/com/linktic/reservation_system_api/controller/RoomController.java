@@ -1,22 +1,28 @@
 package com.linktic.reservation_system_api.controller;
 
 import com.linktic.reservation_system_api.dto.Response;
-import com.linktic.reservation_system_api.entity.Room;
+import com.linktic.reservation_system_api.dto.RoomView;
 import com.linktic.reservation_system_api.service.RoomService;
+import com.linktic.reservation_system_api.util.RoomType;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -43,12 +49,49 @@ public class RoomController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Rooms retrieved successfully",
                     content = @Content(mediaType = "application/json",
-                            schema = @Schema(implementation = Room.class))),
+                            schema = @Schema(implementation = RoomView.class))),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @GetMapping
-    public ResponseEntity<Response<List<Room>>> getAllRooms() {
-        Response<List<Room>> rooms = roomService.getAllRooms();
+    public ResponseEntity<Response<List<RoomView>>> getAllRooms() {
+        Response<List<RoomView>> rooms = roomService.getAllRooms();
+        return new ResponseEntity<>(rooms, HttpStatusCode.valueOf(rooms.getStatusCode()));
+    }
+
+    /**
+     * Endpoint to search the rooms that can be booked for a date range.
+     *
+     * @param startDate the start of the stay.
+     * @param endDate the end of the stay (exclusive).
+     * @param roomType the type of room. Optional parameter.
+     * @param minPrice the minimum price per night. Optional parameter.
+     * @param maxPrice the maximum price per night. Optional parameter.
+     * @return ResponseEntity containing the available rooms ordered by price and HTTP status.
+     */
+    @Operation(summary = "Search available rooms", description = "Find the rooms that can be booked for a date range, optionally filtered by type and price.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Available rooms retrieved successfully",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = RoomView.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid date or price range")
+    })
+    @GetMapping("/availability")
+    public ResponseEntity<Response<List<RoomView>>> searchAvailableRooms(
+            @Parameter(description = "Start of the stay", example = "2024-03-12T00:00:00")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+
+            @Parameter(description = "End of the stay (exclusive)", example = "2024-03-15T00:00:00")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+
+            @Parameter(description = "Type of room")
+            @RequestParam(required = false) RoomType roomType,
+
+            @Parameter(description = "Minimum price per night")
+            @RequestParam(required = false) BigDecimal minPrice,
+
+            @Parameter(description = "Maximum price per night")
+            @RequestParam(required = false) BigDecimal maxPrice) {
+        Response<List<RoomView>> rooms = roomService.searchAvailableRooms(startDate, endDate, roomType, minPrice, maxPrice);
         return new ResponseEntity<>(rooms, HttpStatusCode.valueOf(rooms.getStatusCode()));
     }
 }
@@ -0,0 +1,69 @@
+package com.linktic.reservation_system_api.controller;
+
+import com.linktic.reservation_system_api.dto.CursorPage;
+import com.linktic.reservation_system_api.dto.ReservationView;
+import com.linktic.reservation_system_api.dto.Response;
+import com.linktic.reservation_system_api.service.ReservationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for handling requests related to users.
+ */
+@Tag(name = "User API", description = "API for querying users")
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/users")
+@CrossOrigin(origins = "http://localhost:4200")
+public class UserController {
+
+    /**
+     * Service for managing reservation business logic.
+     */
+    private final ReservationService reservationService;
+
+    /**
+     * Retrieves a page of the reservation history of a user, newest first.
+     * The next page is requested with the cursor returned in the current one.
+     *
+     * @param email The email of the user.
+     * @param cursor The cursor returned with the previous page. Optional parameter.
+     * @param size The maximum number of reservations in the page. Optional parameter.
+     * @return ResponseEntity containing the page of reservations and HTTP status.
+     */
+    @Operation(summary = "Get the reservations of a user", description = "Retrieve the reservation history of a user, newest first, one page at a time.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Reservations retrieved successfully",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ReservationView.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor"),
+            @ApiResponse(responseCode = "404", description = "User not found")
+    })
+    @GetMapping("/{email}/reservations")
+    public ResponseEntity<Response<CursorPage<ReservationView>>> getUserReservations(
+            @Parameter(description = "Email of the user", example = "user@example.com")
+            @PathVariable String email,
+
+            @Parameter(description = "Cursor returned with the previous page")
+            @RequestParam(required = false) String cursor,
+
+            @Parameter(description = "Maximum number of reservations in the page (capped at 500)", example = "50")
+            @RequestParam(required = false) Integer size) {
+        Response<CursorPage<ReservationView>> response = reservationService.getUserReservations(email, cursor, size);
+        return new ResponseEntity<>(response, HttpStatusCode.valueOf(response.getStatusCode()));
+    }
+}
@@ -0,0 +1,13 @@
+package com.linktic.reservation_system_api.dto;
+
+import java.util.List;
+
+/**
+ * A page of results read with keyset (cursor) pagination.
+ *
+ * @param items the items of the page.
+ * @param nextCursor the opaque cursor to request the next page with, or null if this is the last page.
+ * @param <T> the type of the items.
+ */
+public record CursorPage<T>(List<T> items, String nextCursor) {
+}
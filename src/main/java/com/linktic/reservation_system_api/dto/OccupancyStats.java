@@ -0,0 +1,24 @@
+package com.linktic.reservation_system_api.dto;
+
+import com.linktic.reservation_system_api.util.RoomType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Occupancy and revenue of the rooms of one type over one period.
+ *
+ * @param periodStart the first day of the period.
+ * @param roomType the type of the rooms.
+ * @param bookedNights the number of room nights booked in the period.
+ * @param availableNights the number of room nights the rooms of the type offer in the period.
+ * @param occupancyRate the booked nights over the available nights, between 0 and 1.
+ * @param revenue the revenue of the booked nights, at the current room prices.
+ */
+public record OccupancyStats(LocalDate periodStart,
+                             RoomType roomType,
+                             long bookedNights,
+                             long availableNights,
+                             double occupancyRate,
+                             BigDecimal revenue) {
+}
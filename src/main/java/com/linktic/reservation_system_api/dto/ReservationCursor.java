@@ -0,0 +1,45 @@
+package com.linktic.reservation_system_api.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Position of a reservation in the (reservation date, ID) ordering used for keyset pagination.
+ * Cursors are exchanged with clients as opaque URL-safe strings.
+ *
+ * @param reservationDate the reservation date of the last reservation read.
+ * @param id the ID of the last reservation read.
+ */
+public record ReservationCursor(LocalDateTime reservationDate, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Encodes this cursor as an opaque string.
+     *
+     * @return the encoded cursor.
+     */
+    public String encode() {
+        String raw = reservationDate + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor previously produced by {@link #encode()}.
+     *
+     * @param value the encoded cursor.
+     * @return the decoded cursor.
+     * @throws IllegalArgumentException if the value is not a valid cursor.
+     */
+    public static ReservationCursor decode(String value) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new ReservationCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.valueOf(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + value, e);
+        }
+    }
+}
@@ -15,10 +15,15 @@ import java.util.Set;
 public class ReservationDTO {
 
     /**
-     * The date when the reservation is scheduled.
+     * The date when the reservation is scheduled, i.e. the check-in date.
      */
     private LocalDateTime reservationDate;
 
+    /**
+     * The check-out date (exclusive). Optional; a one-night stay is booked when missing.
+     */
+    private LocalDateTime checkOutDate;
+
 
     /**
      * The id of the user who made the reservation.
@@ -29,4 +34,9 @@ public class ReservationDTO {
      * The ids of the rooms associated with the reservation.
      */
     private Set<Long> roomIds;
+
+    /**
+     * The id of the hold placed on the rooms during checkout. Optional; the hold is converted into the reservation.
+     */
+    private Long holdId;
 }
@@ -0,0 +1,17 @@
+package com.linktic.reservation_system_api.dto;
+
+/**
+ * Outcome of one reservation of a bulk import.
+ *
+ * @param index the position of the reservation in the import, starting at 0.
+ * @param success whether the reservation was created.
+ * @param statusCode the HTTP status the reservation would have received on its own.
+ * @param message the result message.
+ * @param reservationId the ID of the created reservation, or null if it was rejected.
+ */
+public record ReservationImportResult(int index,
+                                      boolean success,
+                                      int statusCode,
+                                      String message,
+                                      Long reservationId) {
+}
@@ -0,0 +1,33 @@
+package com.linktic.reservation_system_api.dto;
+
+import com.linktic.reservation_system_api.util.RoomStatus;
+import com.linktic.reservation_system_api.util.RoomType;
+
+import java.math.BigDecimal;
+
+/**
+ * Flat projection of a room together with the ID of a reservation holding it.
+ *
+ * @param reservationId the ID of the reservation.
+ * @param id the ID of the room.
+ * @param roomNumber the unique number assigned to the room.
+ * @param type the type of the room.
+ * @param status the current status of the room.
+ * @param price the price per night for the room.
+ */
+public record ReservationRoomRow(Long reservationId,
+                                 Long id,
+                                 String roomNumber,
+                                 RoomType type,
+                                 RoomStatus status,
+                                 BigDecimal price) {
+
+    /**
+     * Builds the read model of this room.
+     *
+     * @return the room read model.
+     */
+    public RoomView toView() {
+        return new RoomView(id, roomNumber, type, status, price);
+    }
+}
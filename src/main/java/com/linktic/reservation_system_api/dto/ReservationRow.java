@@ -0,0 +1,49 @@
+package com.linktic.reservation_system_api.dto;
+
+import com.linktic.reservation_system_api.util.UserRole;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Flat projection of a reservation joined with its user and role, as read by a single query.
+ *
+ * @param id the ID of the reservation.
+ * @param bookingDate the date when the reservation was made.
+ * @param reservationDate the date when the reservation is scheduled, i.e. the check-in date.
+ * @param checkOutDate the check-out date (exclusive).
+ * @param userId the ID of the user, or null if none.
+ * @param userFirstName the first name of the user.
+ * @param userLastName the last name of the user.
+ * @param userPhone the phone of the user.
+ * @param userEmail the email of the user.
+ * @param userCreatedAt the date when the user was created.
+ * @param roleId the ID of the role of the user, or null if none.
+ * @param roleName the name of the role of the user.
+ */
+public record ReservationRow(Long id,
+                             LocalDateTime bookingDate,
+                             LocalDateTime reservationDate,
+                             LocalDateTime checkOutDate,
+                             Long userId,
+                             String userFirstName,
+                             String userLastName,
+                             String userPhone,
+                             String userEmail,
+                             LocalDateTime userCreatedAt,
+                             Long roleId,
+                             UserRole roleName) {
+
+    /**
+     * Builds the read model of this reservation.
+     *
+     * @param rooms the rooms of the reservation.
+     * @return the reservation read model.
+     */
+    public ReservationView toView(List<RoomView> rooms) {
+        RoleView role = roleId == null ? null : new RoleView(roleId, roleName);
+        UserView user = userId == null ? null
+                : new UserView(userId, userFirstName, userLastName, userPhone, userEmail, userCreatedAt, role);
+        return new ReservationView(id, bookingDate, reservationDate, checkOutDate, user, rooms);
+    }
+}
@@ -0,0 +1,25 @@
+package com.linktic.reservation_system_api.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Read model of a reservation with its user and rooms.
+ * Assembled from query projections, so reading it never populates the persistence context.
+ *
+ * @param id the ID of the reservation.
+ * @param bookingDate the date when the reservation was made.
+ * @param reservationDate the date when the reservation is scheduled, i.e. the check-in date.
+ * @param checkOutDate the check-out date (exclusive).
+ * @param user the user who made the reservation, or null if none.
+ * @param rooms the rooms included in the reservation.
+ */
+public record ReservationView(Long id,
+                              @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss") LocalDateTime bookingDate,
+                              @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss") LocalDateTime reservationDate,
+                              @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss") LocalDateTime checkOutDate,
+                              UserView user,
+                              List<RoomView> rooms) {
+}
@@ -0,0 +1,12 @@
+package com.linktic.reservation_system_api.dto;
+
+import com.linktic.reservation_system_api.util.UserRole;
+
+/**
+ * Read model of a role.
+ *
+ * @param id the ID of the role.
+ * @param name the name of the role.
+ */
+public record RoleView(Long id, UserRole name) {
+}
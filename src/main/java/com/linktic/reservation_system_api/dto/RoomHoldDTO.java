@@ -0,0 +1,35 @@
+package com.linktic.reservation_system_api.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * Request to hold rooms for a stay while the guest completes the checkout.
+ */
+@Data
+@NoArgsConstructor
+public class RoomHoldDTO {
+
+    /**
+     * The start of the stay, i.e. the reservation date of the reservation to come.
+     */
+    private LocalDateTime reservationDate;
+
+    /**
+     * The check-out date (exclusive). Optional; a one-night stay is held when missing.
+     */
+    private LocalDateTime checkOutDate;
+
+    /**
+     * The email of the user holding the rooms.
+     */
+    private String userEmail;
+
+    /**
+     * The ids of the rooms to hold.
+     */
+    private Set<Long> roomIds;
+}
@@ -0,0 +1,32 @@
+package com.linktic.reservation_system_api.dto;
+
+import com.linktic.reservation_system_api.hold.ActiveHold;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * Read model of a hold placed on rooms.
+ *
+ * @param id the ID of the hold, to send with the reservation converting it.
+ * @param roomIds the IDs of the held rooms.
+ * @param reservationDate the start of the held stay.
+ * @param checkOutDate the end of the held stay (exclusive).
+ * @param expiresAt the date when the hold lapses and the rooms are released.
+ */
+public record RoomHoldView(Long id,
+                           Set<Long> roomIds,
+                           LocalDateTime reservationDate,
+                           LocalDateTime checkOutDate,
+                           LocalDateTime expiresAt) {
+
+    /**
+     * Builds the read model of a hold.
+     *
+     * @param hold the hold.
+     * @return the hold read model.
+     */
+    public static RoomHoldView from(ActiveHold hold) {
+        return new RoomHoldView(hold.id(), hold.roomIds(), hold.reservationDate(), hold.checkOutDate(), hold.expiresAt());
+    }
+}
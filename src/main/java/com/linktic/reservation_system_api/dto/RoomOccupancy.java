@@ -0,0 +1,18 @@
+package com.linktic.reservation_system_api.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Lightweight projection of a room and one stay booked on it.
+ * Used to hydrate the in-memory availability index without loading full entities.
+ *
+ * @param roomId the ID of the room.
+ * @param reservationId the ID of the reservation holding the room, or null if none.
+ * @param checkIn the start of the stay, or null if none.
+ * @param checkOut the end of the stay (exclusive), or null if none.
+ */
+public record RoomOccupancy(Long roomId,
+                            Long reservationId,
+                            LocalDateTime checkIn,
+                            LocalDateTime checkOut) {
+}
@@ -0,0 +1,33 @@
+package com.linktic.reservation_system_api.dto;
+
+import com.linktic.reservation_system_api.entity.RoomStay;
+import com.linktic.reservation_system_api.util.RoomType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Flat projection of a stay with the type and price of its room, as read to rebuild occupancy analytics.
+ *
+ * @param id the ID of the stay, which a stay keeps for its whole life: changing a reservation replaces its stays.
+ * @param checkIn the start of the stay.
+ * @param checkOut the end of the stay (exclusive).
+ * @param type the type of the room.
+ * @param price the price per night of the room.
+ */
+public record RoomStayRow(Long id,
+                          LocalDateTime checkIn,
+                          LocalDateTime checkOut,
+                          RoomType type,
+                          BigDecimal price) {
+
+    /**
+     * Builds the projection of a persisted stay whose room is loaded.
+     *
+     * @param stay the stay.
+     * @return the stay projection.
+     */
+    public static RoomStayRow from(RoomStay stay) {
+        return new RoomStayRow(stay.getId(), stay.getCheckIn(), stay.getCheckOut(), stay.getRoom().getType(), stay.getRoom().getPrice());
+    }
+}
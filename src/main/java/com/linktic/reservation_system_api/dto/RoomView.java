@@ -0,0 +1,22 @@
+package com.linktic.reservation_system_api.dto;
+
+import com.linktic.reservation_system_api.util.RoomStatus;
+import com.linktic.reservation_system_api.util.RoomType;
+
+import java.math.BigDecimal;
+
+/**
+ * Read model of a room, built directly by the query that reads it.
+ *
+ * @param id the ID of the room.
+ * @param roomNumber the unique number assigned to the room.
+ * @param type the type of the room.
+ * @param status the current status of the room.
+ * @param price the price per night for the room.
+ */
+public record RoomView(Long id,
+                       String roomNumber,
+                       RoomType type,
+                       RoomStatus status,
+                       BigDecimal price) {
+}
@@ -0,0 +1,30 @@
+package com.linktic.reservation_system_api.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Flat projection of a reservation of a known user, read entirely from the covering index on the
+ * reservations of each user.
+ *
+ * @param id the ID of the reservation.
+ * @param bookingDate the date when the reservation was made.
+ * @param reservationDate the reservation (check-in) date.
+ * @param checkOutDate the check-out date.
+ */
+public record UserReservationRow(Long id,
+                                 LocalDateTime bookingDate,
+                                 LocalDateTime reservationDate,
+                                 LocalDateTime checkOutDate) {
+
+    /**
+     * Builds the read model of this reservation.
+     *
+     * @param user the user who made the reservation.
+     * @param rooms the rooms of the reservation.
+     * @return the reservation read model.
+     */
+    public ReservationView toView(UserView user, List<RoomView> rooms) {
+        return new ReservationView(id, bookingDate, reservationDate, checkOutDate, user, rooms);
+    }
+}
@@ -0,0 +1,37 @@
+package com.linktic.reservation_system_api.dto;
+
+import com.linktic.reservation_system_api.entity.User;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read model of the user who made a reservation.
+ *
+ * @param id the ID of the user.
+ * @param firstName the first name of the user.
+ * @param lastName the last name of the user.
+ * @param phone the phone of the user.
+ * @param email the email of the user.
+ * @param createdAt the date when the user was created.
+ * @param role the role assigned to the user, or null if none.
+ */
+public record UserView(Long id,
+                       String firstName,
+                       String lastName,
+                       String phone,
+                       String email,
+                       LocalDateTime createdAt,
+                       RoleView role) {
+
+    /**
+     * Builds the read model of a loaded user.
+     *
+     * @param user the user, with its role loaded.
+     * @return the read model of the user.
+     */
+    public static UserView from(User user) {
+        RoleView role = user.getRole() == null ? null : new RoleView(user.getRole().getId(), user.getRole().getName());
+        return new UserView(user.getId(), user.getFirstName(), user.getLastName(), user.getPhone(),
+                user.getEmail(), user.getCreatedAt(), role);
+    }
+}
@@ -0,0 +1,36 @@
+package com.linktic.reservation_system_api.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The single row through which outbox publishers take turns.
+ * A publisher locks it for the whole transaction of a batch and numbers the batch after the last position,
+ * so positions are dense and follow the order in which batches commit, whatever the event IDs.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "outbox_cursor")
+public class OutboxCursor {
+
+    /**
+     * The ID of the only row.
+     */
+    public static final int ID = 1;
+
+    @Id
+    private Integer id;
+
+    /**
+     * The position of the last published event.
+     */
+    @Column(nullable = false)
+    private long lastPosition;
+}
@@ -0,0 +1,81 @@
+package com.linktic.reservation_system_api.entity;
+
+import com.linktic.reservation_system_api.event.ReservationEvent;
+import com.linktic.reservation_system_api.event.ReservationEventType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A reservation change waiting in the outbox to be published.
+ * Written in the transaction of the change itself, so a change is published if and only if it commits.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "outbox_events")
+@Builder
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_events_seq")
+    @SequenceGenerator(name = "outbox_events_seq", sequenceName = "outbox_events_seq", allocationSize = 50)
+    private Long id;
+
+    /**
+     * The type of the change.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ReservationEventType type;
+
+    /**
+     * The ID of the reservation changed, or null for room status changes.
+     */
+    private Long reservationId;
+
+    /**
+     * The JSON payload of the change.
+     */
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    /**
+     * The date when the change was made.
+     */
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * The date when the event was published, or null while it is pending.
+     */
+    private LocalDateTime publishedAt;
+
+    /**
+     * The position of the event in publication order, or null while it is pending.
+     * Unlike the ID, positions follow the order in which events are published, without gaps.
+     */
+    private Long publishPosition;
+
+    /**
+     * Builds the event delivered to consumers.
+     *
+     * @return the published form of this event.
+     */
+    public ReservationEvent toEvent() {
+        return new ReservationEvent(id, publishPosition, type, reservationId, createdAt, payload);
+    }
+}
@@ -1,20 +1,27 @@
 package com.linktic.reservation_system_api.entity;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -22,7 +29,8 @@ import java.util.Set;
 
 /**
  * Represents a reservation made by a user for one or more rooms.
- * A reservation has a booking date, reservation date, and associated rooms.
+ * A reservation has a booking date, a stay from its reservation (check-in) date to its check-out date,
+ * and holds each of its rooms for that stay.
  */
 @Data
 @NoArgsConstructor
@@ -33,7 +41,8 @@ import java.util.Set;
 public class Reservation {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reservations_seq")
+    @SequenceGenerator(name = "reservations_seq", sequenceName = "reservations_seq", allocationSize = 50)
     private Long id;
     /**
      * The date when the reservation was made.
@@ -42,24 +51,42 @@ public class Reservation {
     @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
     private LocalDateTime bookingDate;
     /**
-     * The date when the reservation is scheduled.
+     * The date when the reservation is scheduled, i.e. the check-in date of the stay.
      */
     @Column(nullable = false)
     @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
     private LocalDateTime reservationDate;
+    /**
+     * The check-out date of the stay (exclusive).
+     */
+    @Column(nullable = false)
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime checkOutDate;
 
     /**
-     * The user who made the reservation.
+     * The user who made the reservation, resolved from the second-level cache when first accessed.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private User user;
 
     /**
-     * The rooms included in this reservation.
+     * The stays of the rooms included in this reservation.
      * A reservation can include multiple rooms.
      */
     @OneToMany(mappedBy = "reservation")
-    private List<Room> rooms;
+    @JsonIgnore
+    private List<RoomStay> stays;
+
+    /**
+     * Version used for optimistic locking of concurrent bookings.
+     */
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    @JsonIgnore
+    private Long version;
 
 }
@@ -2,6 +2,7 @@ package com.linktic.reservation_system_api.entity;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.linktic.reservation_system_api.util.UserRole;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
@@ -12,16 +13,21 @@ import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.List;
 
 /**
  * Represents a role in the system, such as ADMIN or USER.
  * Each role defines a set of permissions for the users who have this role.
+ * Roles are fixed reference data, cached read-only in the second-level cache.
  */
 @Getter
 @Setter
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY)
 @Table(name = "roles")
 public class Role {
     @Id
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonBackReference;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.linktic.reservation_system_api.util.RoomStatus;
 import com.linktic.reservation_system_api.util.RoomType;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -11,27 +12,36 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
-import jakarta.persistence.JoinColumn;
-import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 
 /**
  * Represents a room in the hotel or accommodation system.
  * Each room has a unique number, type, price, and status.
- * The room can be associated with a reservation.
+ * The room is booked through {@link RoomStay}s, one per reservation holding it, which never overlap.
+ * Rooms are read-write cached in the second-level cache; status changes go through the cache as entity
+ * updates, as a bulk statement would evict the whole region.
  */
 @Data
 @NoArgsConstructor
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "rooms")
 public class Room {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "rooms_seq")
+    @SequenceGenerator(name = "rooms_seq", sequenceName = "rooms_seq", allocationSize = 50)
     private Long id;
     /**
      * The unique number assigned to this room.
@@ -46,20 +56,40 @@ public class Room {
     private RoomType type;
     /**
      * The current status of the room (e.g., AVAILABLE, OCCUPIED).
+     * Bookings do not change it; they are tracked by the stays of the room. The status follows the
+     * stays through the transitions of {@link RoomStatus}, see {@link #transitionTo(RoomStatus)}.
      */
     @Enumerated(EnumType.STRING)
     private RoomStatus status;
+    /**
+     * The date when the status last changed.
+     */
+    private LocalDateTime statusChangedAt;
     /**
      * The price per night for the room.
      */
     private BigDecimal price;
 
     /**
-     * The reservation associated with this room, if any.
-     * A room can be linked to only one reservation at a time.
+     * Version used for optimistic locking of concurrent bookings.
      */
-    @ManyToOne
-    @JoinColumn(name = "reservation_id")
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
     @JsonIgnore
-    private Reservation reservation;
+    private Long version;
+
+    /**
+     * Moves the room to a new status.
+     *
+     * @param next the new status.
+     * @throws IllegalStateException if the current status cannot move to the new one.
+     */
+    public void transitionTo(RoomStatus next) {
+        if (status != null && !status.canTransitionTo(next)) {
+            throw new IllegalStateException("Room " + roomNumber + " cannot go from " + status + " to " + next);
+        }
+        status = next;
+        statusChangedAt = LocalDateTime.now();
+    }
 }
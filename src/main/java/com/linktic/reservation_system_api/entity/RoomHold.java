@@ -0,0 +1,79 @@
+package com.linktic.reservation_system_api.entity;
+
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * A short-lived hold of rooms for a stay, placed by a user before booking them.
+ * Holds are served from memory by the hold registry; this entity only keeps them across restarts.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "room_holds")
+@Builder
+public class RoomHold {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "room_holds_seq")
+    @SequenceGenerator(name = "room_holds_seq", sequenceName = "room_holds_seq", allocationSize = 50)
+    private Long id;
+
+    /**
+     * The ID of the user holding the rooms; only this user can book them with the hold.
+     */
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    /**
+     * The IDs of the held rooms.
+     * Removed by the database along with the hold, so holds can be deleted in bulk.
+     */
+    @ElementCollection
+    @CollectionTable(name = "room_hold_rooms", joinColumns = @JoinColumn(name = "hold_id"))
+    @Column(name = "room_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Set<Long> roomIds;
+
+    /**
+     * The start of the held stay.
+     */
+    @Column(nullable = false)
+    private LocalDateTime reservationDate;
+
+    /**
+     * The end of the held stay (exclusive).
+     */
+    @Column(nullable = false)
+    private LocalDateTime checkOutDate;
+
+    /**
+     * The date when the hold was placed.
+     */
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * The date when the hold lapses, releasing the rooms.
+     */
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,83 @@
+package com.linktic.reservation_system_api.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * A room held by a reservation for the stay of the reservation.
+ * Links reservations and rooms many-to-many: a reservation holds several rooms, and a room is held by
+ * many reservations over time. The stays of a room never overlap, which the database enforces with an
+ * exclusion constraint on the range from check-in to check-out.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "reservation_rooms", uniqueConstraints = @UniqueConstraint(columnNames = {"reservation_id", "room_id"}))
+@Builder
+public class RoomStay {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reservation_rooms_seq")
+    @SequenceGenerator(name = "reservation_rooms_seq", sequenceName = "reservation_rooms_seq", allocationSize = 50)
+    private Long id;
+
+    /**
+     * The reservation holding the room.
+     */
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "reservation_id", nullable = false)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Reservation reservation;
+
+    /**
+     * The room held by the reservation.
+     */
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "room_id", nullable = false)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Room room;
+
+    /**
+     * The start of the stay, copied from the reservation date of the reservation.
+     */
+    @Column(nullable = false)
+    private LocalDateTime checkIn;
+
+    /**
+     * The end of the stay (exclusive), copied from the check-out date of the reservation.
+     */
+    @Column(nullable = false)
+    private LocalDateTime checkOut;
+
+    /**
+     * Checks whether this stay overlaps the given range. Ranges are half-open, so a stay may start
+     * on the day another one checks out.
+     *
+     * @param from the start of the range.
+     * @param to the end of the range (exclusive).
+     * @return true if both ranges share an instant.
+     */
+    public boolean overlaps(LocalDateTime from, LocalDateTime to) {
+        return checkIn.isBefore(to) && from.isBefore(checkOut);
+    }
+}
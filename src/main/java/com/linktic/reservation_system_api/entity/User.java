@@ -3,9 +3,12 @@ package com.linktic.reservation_system_api.entity;
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
-import jakarta.persistence.CascadeType;
+import com.linktic.reservation_system_api.cache.UserCacheInvalidator;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -15,6 +18,8 @@ import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.Set;
@@ -23,10 +28,15 @@ import java.util.Set;
  * Represents a user in the system.
  * Each user has a firstname, lastname, phone, email, password, and one role.
  * A user can make multiple reservations.
+ * Changes are propagated to the user lookup cache by {@link UserCacheInvalidator}.
+ * Users are read-write cached in the second-level cache, with their role resolved from the role cache.
  */
 @Getter
 @Setter
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@EntityListeners(UserCacheInvalidator.class)
 @Table(name = "users")
 public class User {
     @Id
@@ -63,15 +73,16 @@ public class User {
     /**
      * The role assigned to the user, determining their permissions.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "role_id")
     private Role role;
 
     /**
      * The reservations made by the user.
-     * A user can have multiple reservations.
+     * A user can have thousands of reservations, so the collection is never loaded: it is not cascaded,
+     * and the history of a user is read page by page through the reservation repository instead.
      */
-    @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OneToMany(mappedBy = "user")
     @JsonIgnore
     private Set<Reservation> reservations;
 }
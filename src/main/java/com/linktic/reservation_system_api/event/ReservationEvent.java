@@ -0,0 +1,25 @@
+package com.linktic.reservation_system_api.event;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import java.time.LocalDateTime;
+
+/**
+ * A committed reservation change, as delivered to downstream consumers.
+ * Events are delivered at least once and in position order; consumers deduplicate on the ID.
+ *
+ * @param id the ID of the event.
+ * @param position the position of the event in publication order, dense and increasing as events are published.
+ * @param type the type of the change.
+ * @param reservationId the ID of the reservation changed, or null for room status changes.
+ * @param occurredAt the date when the change was made.
+ * @param payload the JSON payload of the change.
+ */
+public record ReservationEvent(Long id,
+                               Long position,
+                               ReservationEventType type,
+                               Long reservationId,
+                               @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss") LocalDateTime occurredAt,
+                               @JsonRawValue String payload) {
+}
@@ -0,0 +1,23 @@
+package com.linktic.reservation_system_api.event;
+
+/**
+ * Types of the changes published through the reservation event outbox.
+ */
+public enum ReservationEventType {
+    /**
+     * A reservation was created; the payload is the reservation.
+     */
+    RESERVATION_CREATED,
+    /**
+     * A reservation was updated; the payload is the reservation.
+     */
+    RESERVATION_UPDATED,
+    /**
+     * A reservation was deleted; the payload holds its ID.
+     */
+    RESERVATION_DELETED,
+    /**
+     * The status of rooms changed; the payload holds the room IDs and their new status.
+     */
+    ROOM_STATUS_CHANGED
+}
@@ -0,0 +1,11 @@
+package com.linktic.reservation_system_api.event;
+
+import java.util.List;
+
+/**
+ * Published in-process for every batch of reservation events drained from the outbox.
+ *
+ * @param events the events of the batch, in ID order.
+ */
+public record ReservationEventsPublishedEvent(List<ReservationEvent> events) {
+}
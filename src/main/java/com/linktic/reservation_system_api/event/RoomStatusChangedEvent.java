@@ -0,0 +1,15 @@
+package com.linktic.reservation_system_api.event;
+
+import com.linktic.reservation_system_api.util.RoomStatus;
+
+import java.util.Collection;
+
+/**
+ * Published whenever the status of a set of rooms changes.
+ * Listeners interested in committed state only should listen after the transaction commits.
+ *
+ * @param roomIds the IDs of the rooms whose status changed.
+ * @param status the new status of the rooms.
+ */
+public record RoomStatusChangedEvent(Collection<Long> roomIds, RoomStatus status) {
+}
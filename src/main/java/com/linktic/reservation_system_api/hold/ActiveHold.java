@@ -0,0 +1,56 @@
+package com.linktic.reservation_system_api.hold;
+
+import com.linktic.reservation_system_api.entity.RoomHold;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * In-memory copy of a hold placed on rooms.
+ *
+ * @param id the ID of the hold.
+ * @param userId the ID of the user holding the rooms.
+ * @param roomIds the IDs of the held rooms.
+ * @param reservationDate the start of the held stay.
+ * @param checkOutDate the end of the held stay (exclusive).
+ * @param expiresAt the date when the hold lapses.
+ */
+public record ActiveHold(Long id,
+                         Long userId,
+                         Set<Long> roomIds,
+                         LocalDateTime reservationDate,
+                         LocalDateTime checkOutDate,
+                         LocalDateTime expiresAt) {
+
+    /**
+     * Copies a persisted hold.
+     *
+     * @param hold the persisted hold.
+     * @return the in-memory hold.
+     */
+    public static ActiveHold from(RoomHold hold) {
+        return new ActiveHold(hold.getId(), hold.getUserId(), Set.copyOf(hold.getRoomIds()), hold.getReservationDate(),
+                hold.getCheckOutDate(), hold.getExpiresAt());
+    }
+
+    /**
+     * Checks whether this hold still keeps its rooms at the given date.
+     *
+     * @param now the date.
+     * @return true if the hold has not lapsed.
+     */
+    public boolean isActive(LocalDateTime now) {
+        return expiresAt.isAfter(now);
+    }
+
+    /**
+     * Checks whether the held stay overlaps the given range.
+     *
+     * @param from the start of the range.
+     * @param to the end of the range (exclusive).
+     * @return true if both ranges share an instant.
+     */
+    public boolean overlaps(LocalDateTime from, LocalDateTime to) {
+        return reservationDate.isBefore(to) && from.isBefore(checkOutDate);
+    }
+}
@@ -0,0 +1,130 @@
+package com.linktic.reservation_system_api.hold;
+
+import com.linktic.reservation_system_api.config.HoldProperties;
+import com.linktic.reservation_system_api.entity.RoomHold;
+import com.linktic.reservation_system_api.repository.RoomHoldRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * In-memory registry of the holds placed on rooms.
+ * Checking whether a room is held is answered from memory, next to the availability index, so placing
+ * and honoring holds never contends on the database. Lapsed holds stop counting as soon as their expiry
+ * passes and are released by a timing wheel, which also deletes their persisted copy; holds still active
+ * are restored from the database at startup. Like the availability index, the registry is local to the
+ * instance and must be kept current by the services that place, release and convert holds.
+ */
+@Slf4j
+@Component
+public class RoomHolds implements SmartInitializingSingleton {
+
+    private final RoomHoldRepository roomHoldRepository;
+    private final TimingWheel<Long> expirations;
+    private final ConcurrentMap<Long, ActiveHold> holds = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, Set<ActiveHold>> holdsByRoom = new ConcurrentHashMap<>();
+
+    public RoomHolds(RoomHoldRepository roomHoldRepository, HoldProperties properties) {
+        this.roomHoldRepository = roomHoldRepository;
+        this.expirations = new TimingWheel<>(properties.tick().toMillis(), properties.wheelSize(), System.currentTimeMillis());
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        LocalDateTime now = LocalDateTime.now();
+        int purged = roomHoldRepository.deleteExpired(now);
+        roomHoldRepository.findActive(now).forEach(hold -> add(ActiveHold.from(hold)));
+        log.info("Room holds restored: {} active, {} lapsed purged", holds.size(), purged);
+    }
+
+    /**
+     * Checks whether a room is held by an active hold for a stay overlapping the given range.
+     *
+     * @param roomId the ID of the room.
+     * @param from the start of the range.
+     * @param to the end of the range (exclusive).
+     * @param excludedHoldId a hold that is ignored, e.g. the one being converted, or null.
+     * @return true if another active hold keeps the room.
+     */
+    public boolean isHeld(Long roomId, LocalDateTime from, LocalDateTime to, Long excludedHoldId) {
+        Set<ActiveHold> roomHolds = holdsByRoom.get(roomId);
+        if (roomHolds == null) {
+            return false;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        return roomHolds.stream()
+                .anyMatch(hold -> !Objects.equals(hold.id(), excludedHoldId) && hold.isActive(now) && hold.overlaps(from, to));
+    }
+
+    /**
+     * Gets a hold that has not lapsed.
+     *
+     * @param holdId the ID of the hold.
+     * @return the hold, or empty if it is unknown, released or lapsed.
+     */
+    public Optional<ActiveHold> get(Long holdId) {
+        ActiveHold hold = holds.get(holdId);
+        return hold != null && hold.isActive(LocalDateTime.now()) ? Optional.of(hold) : Optional.empty();
+    }
+
+    /**
+     * Starts keeping the rooms of a hold until it lapses.
+     *
+     * @param hold the hold.
+     */
+    public void add(ActiveHold hold) {
+        holds.put(hold.id(), hold);
+        // Added within compute, so a concurrent removal never drops the set of the room in between.
+        hold.roomIds().forEach(roomId -> holdsByRoom.compute(roomId, (id, roomHolds) -> {
+            Set<ActiveHold> updated = roomHolds == null ? ConcurrentHashMap.newKeySet() : roomHolds;
+            updated.add(hold);
+            return updated;
+        }));
+        expirations.schedule(hold.id(), hold.expiresAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+
+    /**
+     * Stops keeping the rooms of a hold.
+     *
+     * @param holdId the ID of the hold.
+     */
+    public void remove(Long holdId) {
+        ActiveHold hold = holds.remove(holdId);
+        if (hold == null) {
+            return;
+        }
+        hold.roomIds().forEach(roomId -> holdsByRoom.computeIfPresent(roomId, (id, roomHolds) -> {
+            roomHolds.remove(hold);
+            return roomHolds.isEmpty() ? null : roomHolds;
+        }));
+    }
+
+    /**
+     * Releases the holds whose expiry passed since the last run, and deletes their persisted copy.
+     */
+    @Scheduled(fixedDelayString = "${reservation.holds.tick:1s}")
+    public void expire() {
+        List<Long> lapsed = new ArrayList<>();
+        expirations.advance(System.currentTimeMillis(), holdId -> {
+            if (holds.containsKey(holdId)) {
+                remove(holdId);
+                lapsed.add(holdId);
+            }
+        });
+        if (!lapsed.isEmpty()) {
+            roomHoldRepository.deleteByIdIn(lapsed);
+            log.debug("{} room holds lapsed", lapsed.size());
+        }
+    }
+}
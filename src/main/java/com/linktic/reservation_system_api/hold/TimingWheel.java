@@ -0,0 +1,83 @@
+package com.linktic.reservation_system_api.hold;
+
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * Hashed timing wheel collecting items once their deadline has passed.
+ * Time is divided into ticks spread over a fixed ring of slots; an item is placed in the slot of its
+ * deadline tick, and advancing the wheel only visits the slots of the ticks elapsed since the last advance,
+ * so scheduling is constant time and expiring costs nothing for items not yet due. Items further away than
+ * one turn of the wheel stay in their slot until the turn of their deadline comes.
+ * Items may be scheduled from any thread; the wheel must be advanced by a single thread at a time.
+ *
+ * @param <T> the type of the items.
+ */
+final class TimingWheel<T> {
+
+    private final long tickMillis;
+    private final Queue<Entry<T>>[] slots;
+    private final int mask;
+    private volatile long currentTick;
+
+    /**
+     * Creates a wheel.
+     *
+     * @param tickMillis the duration of a tick, in milliseconds; deadlines are rounded up to it.
+     * @param size the number of slots, rounded up to a power of two.
+     * @param now the current time, in epoch milliseconds.
+     */
+    @SuppressWarnings("unchecked")
+    TimingWheel(long tickMillis, int size, long now) {
+        int slotCount = size <= 1 ? 1 : Integer.highestOneBit(size - 1) << 1;
+        this.tickMillis = tickMillis;
+        this.slots = new Queue[slotCount];
+        for (int i = 0; i < slotCount; i++) {
+            slots[i] = new ConcurrentLinkedQueue<>();
+        }
+        this.mask = slotCount - 1;
+        this.currentTick = now / tickMillis;
+    }
+
+    /**
+     * Schedules an item. Items whose deadline has already passed are collected on the next advance.
+     * An item scheduled while the wheel is advancing past its tick is collected one turn later.
+     *
+     * @param item the item.
+     * @param deadline the deadline of the item, in epoch milliseconds.
+     */
+    void schedule(T item, long deadline) {
+        long tick = Math.max(Math.floorDiv(deadline + tickMillis - 1, tickMillis), currentTick + 1);
+        slots[(int) (tick & mask)].add(new Entry<>(tick, item));
+    }
+
+    /**
+     * Advances the wheel to the given time and collects the items whose deadline has passed.
+     *
+     * @param now the current time, in epoch milliseconds.
+     * @param expired receives each expired item.
+     */
+    void advance(long now, Consumer<T> expired) {
+        long target = now / tickMillis;
+        // Past one turn, every slot has been visited.
+        long from = Math.max(currentTick + 1, target - mask);
+        for (long tick = from; tick <= target; tick++) {
+            Iterator<Entry<T>> entries = slots[(int) (tick & mask)].iterator();
+            while (entries.hasNext()) {
+                Entry<T> entry = entries.next();
+                if (entry.tick() <= target) {
+                    entries.remove();
+                    expired.accept(entry.item());
+                }
+            }
+        }
+        if (target > currentTick) {
+            currentTick = target;
+        }
+    }
+
+    private record Entry<T>(long tick, T item) {
+    }
+}
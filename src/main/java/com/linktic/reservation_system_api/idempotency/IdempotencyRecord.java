@@ -0,0 +1,19 @@
+package com.linktic.reservation_system_api.idempotency;
+
+/**
+ * The stored outcome of an idempotent request.
+ *
+ * @param fingerprint the hash of the request the key was first used with.
+ * @param response the serialized response returned to that request, or null while the request is running.
+ */
+public record IdempotencyRecord(String fingerprint, String response) {
+
+    /**
+     * Checks whether the request holding the key is still running.
+     *
+     * @return true if no response was stored yet.
+     */
+    public boolean isPending() {
+        return response == null;
+    }
+}
@@ -0,0 +1,36 @@
+package com.linktic.reservation_system_api.idempotency;
+
+import java.util.Optional;
+
+/**
+ * Storage of the responses of idempotent requests, keyed by their idempotency key.
+ * A key is claimed before its request runs, so a retry reaching any node while the first attempt is
+ * still running sees the key as taken. Implementations expire records after the configured time to live.
+ */
+public interface IdempotencyStore {
+
+    /**
+     * Claims a key for a request about to run, unless another request holds it.
+     *
+     * @param key the idempotency key.
+     * @param fingerprint the hash of the request.
+     * @return empty if the key was claimed, or the record of the request holding it, pending while that request runs.
+     */
+    Optional<IdempotencyRecord> claim(String key, String fingerprint);
+
+    /**
+     * Stores the response of the request that claimed a key.
+     *
+     * @param key the idempotency key.
+     * @param record the record to store.
+     */
+    void complete(String key, IdempotencyRecord record);
+
+    /**
+     * Releases a key whose request ended without a response worth replaying, so it can be retried.
+     *
+     * @param key the idempotency key.
+     * @param fingerprint the hash of the request that claimed the key.
+     */
+    void release(String key, String fingerprint);
+}
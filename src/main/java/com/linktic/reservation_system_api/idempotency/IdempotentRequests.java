@@ -0,0 +1,151 @@
+package com.linktic.reservation_system_api.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linktic.reservation_system_api.dto.Response;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Executes requests at most once per idempotency key.
+ * The first request with a key claims it in the store, runs and stores its response; retries with the same
+ * key and request get the stored response back without running again. Retries arriving on the same node
+ * while the first request is still running wait for its response, and those arriving on another node are
+ * answered with 409 Conflict. Conflicts and server errors are not stored, so they can be retried.
+ */
+@Slf4j
+@Component
+public class IdempotentRequests {
+
+    private final IdempotencyStore store;
+    private final ObjectMapper objectMapper;
+    private final ConcurrentMap<String, InFlight> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotentRequests(IdempotencyStore store, ObjectMapper objectMapper) {
+        this.store = store;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Executes a request unless its key was already used.
+     *
+     * @param scope the operation the key belongs to, so keys of different endpoints never collide.
+     * @param key the idempotency key sent by the client, or null to always execute.
+     * @param request the request body, compared with the one the key was first used with.
+     * @param responseType the type of the response, to read stored responses back.
+     * @param action the request execution.
+     * @return the response of the request, or of the first request with the same key.
+     */
+    public <T> Response<T> execute(String scope, String key, Object request, JavaType responseType, Supplier<Response<T>> action) {
+        if (key == null || key.isBlank()) {
+            return action.get();
+        }
+        String scopedKey = scope + ":" + key;
+        String fingerprint = fingerprint(request);
+
+        InFlight execution = new InFlight(fingerprint, new CompletableFuture<>());
+        InFlight running = inFlight.putIfAbsent(scopedKey, execution);
+        if (running != null) {
+            log.debug("Waiting for the in-flight request with idempotency key {}", key);
+            if (!running.fingerprint().equals(fingerprint)) {
+                return mismatch();
+            }
+            return replay(new IdempotencyRecord(running.fingerprint(), running.response().join()), fingerprint, responseType);
+        }
+        boolean claimed = false;
+        try {
+            Optional<IdempotencyRecord> stored = store.claim(scopedKey, fingerprint);
+            claimed = stored.isEmpty();
+            Response<T> response = claimed ? action.get() : answer(stored.get(), fingerprint, responseType);
+            String body = write(response);
+            if (claimed && isFinal(response)) {
+                store.complete(scopedKey, new IdempotencyRecord(fingerprint, body));
+            } else if (claimed) {
+                store.release(scopedKey, fingerprint);
+            }
+            execution.response().complete(body);
+            return response;
+        } catch (RuntimeException e) {
+            if (claimed) {
+                store.release(scopedKey, fingerprint);
+            }
+            execution.response().completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(scopedKey, execution);
+        }
+    }
+
+    /**
+     * Answers a request whose key is held by another request: with the stored response once there is one,
+     * or with a conflict while the other request, running on another node, has not completed.
+     */
+    private <T> Response<T> answer(IdempotencyRecord record, String fingerprint, JavaType responseType) {
+        if (!record.fingerprint().equals(fingerprint)) {
+            return mismatch();
+        }
+        if (record.isPending()) {
+            return new Response<>(false, "A request with the same idempotency key is still being processed",
+                    HttpStatus.CONFLICT.value(), null);
+        }
+        return replay(record, fingerprint, responseType);
+    }
+
+    private <T> Response<T> replay(IdempotencyRecord record, String fingerprint, JavaType responseType) {
+        if (!record.fingerprint().equals(fingerprint)) {
+            return mismatch();
+        }
+        try {
+            return objectMapper.readValue(record.response(), responseType);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private <T> Response<T> mismatch() {
+        return new Response<>(false, "Idempotency key was already used with a different request",
+                HttpStatus.UNPROCESSABLE_ENTITY.value(), null);
+    }
+
+    private boolean isFinal(Response<?> response) {
+        return response.getStatusCode() < HttpStatus.INTERNAL_SERVER_ERROR.value()
+                && response.getStatusCode() != HttpStatus.CONFLICT.value();
+    }
+
+    private String write(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String fingerprint(Object request) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(hash);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * A request running on this node, with the fingerprint it claimed its key with.
+     */
+    private record InFlight(String fingerprint, CompletableFuture<String> response) {
+    }
+}
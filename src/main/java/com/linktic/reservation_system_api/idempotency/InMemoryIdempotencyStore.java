@@ -0,0 +1,51 @@
+package com.linktic.reservation_system_api.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.linktic.reservation_system_api.config.IdempotencyProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Bounded, node-local {@link IdempotencyStore}. The default store.
+ */
+@Component
+@ConditionalOnProperty(prefix = "reservation.idempotency", name = "store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    /**
+     * Name under which the cache metrics are published.
+     */
+    public static final String CACHE_NAME = "idempotency";
+
+    private final Cache<String, IdempotencyRecord> records;
+
+    public InMemoryIdempotencyStore(IdempotencyProperties properties, MeterRegistry meterRegistry) {
+        this.records = Caffeine.newBuilder()
+                .maximumSize(properties.maxSize())
+                .expireAfterWrite(properties.ttl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, records, CACHE_NAME);
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> claim(String key, String fingerprint) {
+        return Optional.ofNullable(records.asMap().putIfAbsent(key, new IdempotencyRecord(fingerprint, null)));
+    }
+
+    @Override
+    public void complete(String key, IdempotencyRecord record) {
+        records.put(key, record);
+    }
+
+    @Override
+    public void release(String key, String fingerprint) {
+        records.asMap().computeIfPresent(key, (claimedKey, record) ->
+                record.isPending() && record.fingerprint().equals(fingerprint) ? null : record);
+    }
+}
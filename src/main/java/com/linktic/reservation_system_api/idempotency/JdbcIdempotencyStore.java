@@ -0,0 +1,82 @@
+package com.linktic.reservation_system_api.idempotency;
+
+import com.linktic.reservation_system_api.config.IdempotencyProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * {@link IdempotencyStore} backed by the {@code idempotency_keys} table, shared by all nodes.
+ * Keys are claimed with a pending row before their request runs, and the row takes the response once it
+ * completes. Expired records, and pending rows left by requests that never completed, can be claimed again;
+ * expired records are purged periodically.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "reservation.idempotency", name = "store", havingValue = "jdbc")
+public class JdbcIdempotencyStore implements IdempotencyStore {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final IdempotencyProperties properties;
+
+    public JdbcIdempotencyStore(JdbcTemplate jdbcTemplate, IdempotencyProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> claim(String key, String fingerprint) {
+        Timestamp now = Timestamp.from(Instant.now());
+        // Takes over an expired record or an abandoned claim; the row lock lets a single claimer through.
+        int claimed = jdbcTemplate.update("UPDATE idempotency_keys SET fingerprint = ?, response = NULL, created_at = ? " +
+                        "WHERE idempotency_key = ? AND (created_at <= ? OR (response IS NULL AND created_at <= ?))",
+                fingerprint, now, key, before(properties.ttl()), before(properties.claimTimeout()));
+        if (claimed == 0) {
+            claimed = jdbcTemplate.update("INSERT INTO idempotency_keys (idempotency_key, fingerprint, response, created_at) " +
+                            "VALUES (?, ?, NULL, ?) ON CONFLICT DO NOTHING",
+                    key, fingerprint, now);
+        }
+        if (claimed > 0) {
+            return Optional.empty();
+        }
+        return jdbcTemplate.query("SELECT fingerprint, response FROM idempotency_keys WHERE idempotency_key = ?",
+                        (rs, rowNum) -> new IdempotencyRecord(rs.getString("fingerprint"), rs.getString("response")),
+                        key)
+                .stream()
+                .findFirst()
+                // Released or purged in between: reported as pending, the client retries.
+                .or(() -> Optional.of(new IdempotencyRecord(fingerprint, null)));
+    }
+
+    @Override
+    public void complete(String key, IdempotencyRecord record) {
+        jdbcTemplate.update("UPDATE idempotency_keys SET response = ? WHERE idempotency_key = ? AND fingerprint = ? AND response IS NULL",
+                record.response(), key, record.fingerprint());
+    }
+
+    @Override
+    public void release(String key, String fingerprint) {
+        jdbcTemplate.update("DELETE FROM idempotency_keys WHERE idempotency_key = ? AND fingerprint = ? AND response IS NULL",
+                key, fingerprint);
+    }
+
+    /**
+     * Deletes the expired records.
+     */
+    @Scheduled(fixedDelayString = "PT1H", initialDelayString = "PT1M")
+    public void purgeExpired() {
+        int purged = jdbcTemplate.update("DELETE FROM idempotency_keys WHERE created_at <= ?", before(properties.ttl()));
+        log.debug("Purged {} expired idempotency keys", purged);
+    }
+
+    private Timestamp before(Duration age) {
+        return Timestamp.from(Instant.now().minus(age));
+    }
+}
@@ -0,0 +1,95 @@
+package com.linktic.reservation_system_api.lifecycle;
+
+import com.linktic.reservation_system_api.config.RoomLifecycleProperties;
+import com.linktic.reservation_system_api.event.RoomStatusChangedEvent;
+import com.linktic.reservation_system_api.repository.RoomRepository;
+import com.linktic.reservation_system_api.util.RoomStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Moves rooms through their status lifecycle as stays check in and out.
+ * Due rooms are found a batch at a time and updated in JDBC batches, each batch in its own short
+ * transaction: thousands of rooms checking out at the same hour are moved without long-held locks, and
+ * since bookings only insert stays and never lock rooms, the burst does not hold up booking traffic.
+ * Rooms are locked with SKIP LOCKED while they move, so several instances can run the transitions at once.
+ * Rooms are updated as entities rather than by a bulk statement, so only the moved rooms are refreshed in
+ * the second-level cache instead of the whole region being evicted.
+ */
+@RequiredArgsConstructor
+@Slf4j
+@Component
+public class RoomLifecycleScheduler {
+
+    private final RoomRepository roomRepository;
+    private final RoomLifecycleProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Applies every transition that is due.
+     * Check-outs run before check-ins, so a room turned over on the same run is cleaned before its next guest.
+     */
+    @Scheduled(fixedDelayString = "${reservation.lifecycle.interval:1m}")
+    public void run() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime leadTime = now.plus(properties.reservedLeadTime());
+        Map<RoomTransition, Integer> moved = new EnumMap<>(RoomTransition.class);
+
+        moved.put(RoomTransition.CHECK_OUT, apply(RoomTransition.CHECK_OUT, now,
+                page -> roomRepository.lockCheckedOut(now, page)));
+        moved.put(RoomTransition.CLEANED, apply(RoomTransition.CLEANED, now,
+                page -> roomRepository.lockInStatusSince(RoomStatus.CLEANING, now.minus(properties.cleaningDuration()), page)));
+        moved.put(RoomTransition.RELEASE, apply(RoomTransition.RELEASE, now,
+                page -> roomRepository.lockWithoutStayBetween(RoomStatus.RESERVED, now, leadTime, page)));
+        moved.put(RoomTransition.CHECK_IN, apply(RoomTransition.CHECK_IN, now,
+                page -> roomRepository.lockWithStayBetween(RoomTransition.CHECK_IN.from(), now, now, page)));
+        moved.put(RoomTransition.RESERVE, apply(RoomTransition.RESERVE, now,
+                page -> roomRepository.lockWithStayBetween(RoomTransition.RESERVE.from(), now, leadTime, page)));
+
+        if (moved.values().stream().anyMatch(count -> count > 0)) {
+            log.atInfo()
+                    .setMessage("Room statuses updated")
+                    .addKeyValue("transitions", moved)
+                    .log();
+        }
+    }
+
+    /**
+     * Applies a transition to all the rooms due for it, batch by batch, until none is left.
+     *
+     * @param transition the transition.
+     * @param now the date of the run.
+     * @param due finds and locks a batch of rooms due for the transition.
+     * @return the number of rooms moved.
+     */
+    private int apply(RoomTransition transition, LocalDateTime now, Function<Pageable, List<Long>> due) {
+        int total = 0;
+        int moved;
+        do {
+            moved = transactionTemplate.execute(status -> {
+                List<Long> roomIds = due.apply(PageRequest.of(0, properties.batchSize()));
+                if (!roomIds.isEmpty()) {
+                    // Locked rows are read again from the database, and updated through the second-level cache.
+                    roomRepository.findAllById(roomIds).forEach(room -> room.transitionTo(transition.to()));
+                    eventPublisher.publishEvent(new RoomStatusChangedEvent(roomIds, transition.to()));
+                }
+                return roomIds.size();
+            });
+            total += moved;
+        } while (moved == properties.batchSize());
+        return total;
+    }
+}
@@ -0,0 +1,54 @@
+package com.linktic.reservation_system_api.lifecycle;
+
+import com.linktic.reservation_system_api.util.RoomStatus;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Status transitions applied by the {@link RoomLifecycleScheduler} as stays come and go.
+ * Each one must be allowed by {@link RoomStatus#canTransitionTo(RoomStatus)}.
+ */
+enum RoomTransition {
+    /**
+     * A stay starts soon: an available room is held for it.
+     */
+    RESERVE(EnumSet.of(RoomStatus.AVAILABLE), RoomStatus.RESERVED),
+    /**
+     * The stay a room was held for is no longer coming.
+     */
+    RELEASE(EnumSet.of(RoomStatus.RESERVED), RoomStatus.AVAILABLE),
+    /**
+     * A stay started.
+     */
+    CHECK_IN(EnumSet.of(RoomStatus.AVAILABLE, RoomStatus.RESERVED), RoomStatus.OCCUPIED),
+    /**
+     * The stay of an occupied room ended.
+     */
+    CHECK_OUT(EnumSet.of(RoomStatus.OCCUPIED), RoomStatus.CLEANING),
+    /**
+     * A room was cleaned after a stay.
+     */
+    CLEANED(EnumSet.of(RoomStatus.CLEANING), RoomStatus.AVAILABLE);
+
+    private final Set<RoomStatus> from;
+    private final RoomStatus to;
+
+    RoomTransition(Set<RoomStatus> from, RoomStatus to) {
+        from.forEach(status -> {
+            if (!status.canTransitionTo(to)) {
+                throw new IllegalArgumentException(status + " cannot go to " + to);
+            }
+        });
+        this.from = from;
+        this.to = to;
+    }
+
+    Set<RoomStatus> from() {
+        return from;
+    }
+
+    RoomStatus to() {
+        return to;
+    }
+}
@@ -0,0 +1,49 @@
+package com.linktic.reservation_system_api.metrics;
+
+/**
+ * Outcomes of a booking request, published as the {@code outcome} tag of the bookings counter.
+ */
+public enum BookingOutcome {
+    /**
+     * A reservation was created.
+     */
+    CREATED("created"),
+    /**
+     * A reservation was updated.
+     */
+    UPDATED("updated"),
+    /**
+     * The request was incomplete or its dates were invalid.
+     */
+    REJECTED_INVALID("rejected-invalid"),
+    /**
+     * One or more of the requested rooms do not exist.
+     */
+    REJECTED_MISSING_ROOM("rejected-missing-room"),
+    /**
+     * One or more of the requested rooms are not available.
+     */
+    REJECTED_UNAVAILABLE("rejected-unavailable"),
+    /**
+     * No user has the email of the request.
+     */
+    USER_NOT_FOUND("user-not-found"),
+    /**
+     * The hold referenced by the request lapsed or does not cover it.
+     */
+    REJECTED_HOLD("rejected-hold"),
+    /**
+     * The booking kept losing races against concurrent changes of the same rooms.
+     */
+    CONFLICT("conflict");
+
+    private final String tag;
+
+    BookingOutcome(String tag) {
+        this.tag = tag;
+    }
+
+    public String getTag() {
+        return tag;
+    }
+}
@@ -0,0 +1,41 @@
+package com.linktic.reservation_system_api.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Counters of the booking outcomes.
+ * Every outcome is registered upfront so the series exist, at zero, before the first booking.
+ */
+@Component
+public class ReservationMetrics {
+
+    /**
+     * Name of the bookings counter.
+     */
+    public static final String BOOKINGS = "reservation.bookings";
+
+    private final Map<BookingOutcome, Counter> bookings = new EnumMap<>(BookingOutcome.class);
+
+    public ReservationMetrics(MeterRegistry meterRegistry) {
+        for (BookingOutcome outcome : BookingOutcome.values()) {
+            bookings.put(outcome, Counter.builder(BOOKINGS)
+                    .description("Booking requests by outcome")
+                    .tag("outcome", outcome.getTag())
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Counts a booking request.
+     *
+     * @param outcome the outcome of the request.
+     */
+    public void booking(BookingOutcome outcome) {
+        bookings.get(outcome).increment();
+    }
+}
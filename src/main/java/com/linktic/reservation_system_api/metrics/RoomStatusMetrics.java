@@ -0,0 +1,37 @@
+package com.linktic.reservation_system_api.metrics;
+
+import com.linktic.reservation_system_api.cache.RoomCatalogCache;
+import com.linktic.reservation_system_api.util.RoomStatus;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Gauges of the number of rooms in each {@link RoomStatus}, read from the counts kept by the room catalog cache
+ * so scrapes neither query the database nor copy the catalog.
+ */
+@Component
+public class RoomStatusMetrics implements MeterBinder {
+
+    /**
+     * Name of the rooms gauge.
+     */
+    public static final String ROOMS = "reservation.rooms";
+
+    private final RoomCatalogCache roomCatalogCache;
+
+    public RoomStatusMetrics(RoomCatalogCache roomCatalogCache) {
+        this.roomCatalogCache = roomCatalogCache;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (RoomStatus status : RoomStatus.values()) {
+            Gauge.builder(ROOMS, roomCatalogCache, cache -> cache.countInStatus(status))
+                    .description("Rooms by status")
+                    .tag("status", status.name())
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.linktic.reservation_system_api.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Records the number of SQL statements each request issues, tagged like the HTTP server metrics.
+ * Statements run after the response is handed to another thread, such as NDJSON exports, are not counted.
+ */
+@Component
+public class StatementCountFilter extends OncePerRequestFilter {
+
+    /**
+     * Name of the statements per request summary.
+     */
+    public static final String STATEMENTS = "http.server.requests.jdbc.statements";
+
+    private final StatementCounter statementCounter;
+    private final MeterRegistry meterRegistry;
+
+    public StatementCountFilter(StatementCounter statementCounter, MeterRegistry meterRegistry) {
+        this.statementCounter = statementCounter;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        statementCounter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long statements = statementCounter.stop();
+            Object uri = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            DistributionSummary.builder(STATEMENTS)
+                    .description("SQL statements issued per request")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri == null ? "UNKNOWN" : uri.toString())
+                    .register(meterRegistry)
+                    .record(statements);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.linktic.reservation_system_api.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements prepared by Hibernate on the current thread.
+ * Registered as the Hibernate statement inspector and read by {@link StatementCountFilter} around each request.
+ */
+public class StatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<long[]> COUNT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        long[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+
+    /**
+     * Starts counting the statements of the current thread.
+     */
+    public void start() {
+        COUNT.set(new long[1]);
+    }
+
+    /**
+     * Stops counting the statements of the current thread.
+     *
+     * @return the number of statements prepared since {@link #start()}.
+     */
+    public long stop() {
+        long[] count = COUNT.get();
+        COUNT.remove();
+        return count == null ? 0 : count[0];
+    }
+}
@@ -0,0 +1,25 @@
+package com.linktic.reservation_system_api.outbox;
+
+import com.linktic.reservation_system_api.event.ReservationEvent;
+import com.linktic.reservation_system_api.event.ReservationEventsPublishedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Publishes reservation events to in-process listeners of {@link ReservationEventsPublishedEvent}.
+ * Listeners that must only see events whose publication committed listen after the transaction commits.
+ */
+@RequiredArgsConstructor
+@Component
+public class ApplicationEventSink implements EventSink {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public void publish(List<ReservationEvent> events) {
+        eventPublisher.publishEvent(new ReservationEventsPublishedEvent(events));
+    }
+}
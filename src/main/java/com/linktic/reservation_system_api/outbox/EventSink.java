@@ -0,0 +1,20 @@
+package com.linktic.reservation_system_api.outbox;
+
+import com.linktic.reservation_system_api.event.ReservationEvent;
+
+import java.util.List;
+
+/**
+ * Destination of the reservation events drained from the outbox.
+ * Every sink bean receives every batch; a sink failing makes the whole batch be retried, so sinks must
+ * tolerate receiving events more than once.
+ */
+public interface EventSink {
+
+    /**
+     * Publishes a batch of events.
+     *
+     * @param events the events, in ID order.
+     */
+    void publish(List<ReservationEvent> events);
+}
@@ -0,0 +1,46 @@
+package com.linktic.reservation_system_api.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linktic.reservation_system_api.config.OutboxProperties;
+import com.linktic.reservation_system_api.event.ReservationEvent;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Appends reservation events to a file as newline-delimited JSON, one write per batch.
+ * Enabled by setting {@code reservation.outbox.file-path}.
+ */
+@Component
+@ConditionalOnProperty(prefix = "reservation.outbox", name = "file-path")
+public class FileEventSink implements EventSink {
+
+    private final Path path;
+    private final ObjectMapper objectMapper;
+
+    public FileEventSink(OutboxProperties properties, ObjectMapper objectMapper) {
+        this.path = Path.of(properties.filePath());
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void publish(List<ReservationEvent> events) {
+        try {
+            ByteArrayOutputStream batch = new ByteArrayOutputStream();
+            for (ReservationEvent event : events) {
+                batch.write(objectMapper.writeValueAsBytes(event));
+                batch.write('\n');
+            }
+            Files.write(path, batch.toByteArray(), StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.WRITE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
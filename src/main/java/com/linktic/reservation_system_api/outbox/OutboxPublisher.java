@@ -0,0 +1,81 @@
+package com.linktic.reservation_system_api.outbox;
+
+import com.linktic.reservation_system_api.config.OutboxProperties;
+import com.linktic.reservation_system_api.entity.OutboxCursor;
+import com.linktic.reservation_system_api.entity.OutboxEvent;
+import com.linktic.reservation_system_api.event.ReservationEvent;
+import com.linktic.reservation_system_api.repository.OutboxCursorRepository;
+import com.linktic.reservation_system_api.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Drains the outbox in the background, publishing pending events to every {@link EventSink} in batches.
+ * Each batch is locked, published and marked as published in one transaction, so a batch whose
+ * publication fails stays pending and is published again on the next drain: delivery is at least once.
+ * Batches are numbered under the lock of the outbox cursor, which publishers hold until they commit, so
+ * event positions are dense and increase in the order batches commit, across instances.
+ */
+@RequiredArgsConstructor
+@Slf4j
+@Component
+public class OutboxPublisher {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxCursorRepository outboxCursorRepository;
+    private final List<EventSink> sinks;
+    private final OutboxProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Publishes the pending events, batch after batch, until the outbox is empty.
+     */
+    @Scheduled(fixedDelayString = "${reservation.outbox.poll-interval:1s}")
+    public void drain() {
+        try {
+            int published;
+            do {
+                published = transactionTemplate.execute(status -> publishBatch());
+            } while (published == properties.batchSize());
+        } catch (RuntimeException e) {
+            log.warn("Publishing outbox events failed, retrying on the next drain: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Deletes the events published longer ago than the retention period.
+     */
+    @Scheduled(fixedDelayString = "PT1H", initialDelayString = "PT1M")
+    public void purgePublished() {
+        int purged = outboxEventRepository.deletePublishedBefore(LocalDateTime.now().minus(properties.retention()));
+        log.debug("Purged {} published outbox events", purged);
+    }
+
+    private int publishBatch() {
+        List<OutboxEvent> pending = outboxEventRepository.lockPending(PageRequest.of(0, properties.batchSize()));
+        if (pending.isEmpty()) {
+            return 0;
+        }
+        OutboxCursor cursor = outboxCursorRepository.lock(OutboxCursor.ID)
+                .orElseGet(() -> outboxCursorRepository.save(new OutboxCursor(OutboxCursor.ID, 0)));
+        long position = cursor.getLastPosition();
+        LocalDateTime publishedAt = LocalDateTime.now();
+        for (OutboxEvent event : pending) {
+            event.setPublishPosition(++position);
+            event.setPublishedAt(publishedAt);
+        }
+        cursor.setLastPosition(position);
+
+        List<ReservationEvent> events = pending.stream().map(OutboxEvent::toEvent).toList();
+        sinks.forEach(sink -> sink.publish(events));
+        log.debug("Published {} outbox events", pending.size());
+        return pending.size();
+    }
+}
@@ -0,0 +1,163 @@
+package com.linktic.reservation_system_api.outbox;
+
+import com.linktic.reservation_system_api.config.OutboxProperties;
+import com.linktic.reservation_system_api.entity.OutboxEvent;
+import com.linktic.reservation_system_api.event.ReservationEvent;
+import com.linktic.reservation_system_api.event.ReservationEventsPublishedEvent;
+import com.linktic.reservation_system_api.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pushes published reservation events to Server-Sent Events subscribers.
+ * Each subscriber is served by its own virtual thread from a bounded queue, so a slow client never
+ * delays the publisher nor other clients; a client falling too far behind is disconnected and resumes
+ * from the outbox by reconnecting with the ID of the last event it received.
+ * Streamed event IDs are publication positions, which are dense: a subscriber receiving an event past the
+ * next position, e.g. after events published by another instance, reads the missing ones back from the outbox.
+ */
+@RequiredArgsConstructor
+@Slf4j
+@Component
+public class ReservationEventStream {
+
+    private static final int QUEUE_CAPACITY = 1000;
+    private static final int REPLAY_BATCH_SIZE = 500;
+    private static final long POLL_TIMEOUT_SECONDS = 5;
+    private static final long NOT_STARTED = -1;
+    private static final ReservationEvent HEARTBEAT = new ReservationEvent(null, null, null, null, null, null);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxProperties properties;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Opens a stream of reservation events.
+     *
+     * @param lastEventId the ID of the last event the client received, to resume from, or null for live events only.
+     * @return the emitter streaming the events.
+     */
+    public SseEmitter subscribe(Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(properties.streamTimeout().toMillis());
+        Subscriber subscriber = new Subscriber(emitter, lastEventId == null ? NOT_STARTED : lastEventId);
+        // Subscribe before replaying, so events committed during the replay are queued rather than missed.
+        subscribers.add(subscriber);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+        Thread.ofVirtual().name("reservation-events-" + subscriber.hashCode()).start(() -> subscriber.run(lastEventId));
+        return emitter;
+    }
+
+    /**
+     * Queues a batch of events for every subscriber once their publication is committed.
+     *
+     * @param published the published batch.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPublished(ReservationEventsPublishedEvent published) {
+        subscribers.forEach(subscriber -> published.events().forEach(subscriber::offer));
+    }
+
+    /**
+     * Sends a comment to every subscriber, so idle streams are not closed by intermediaries.
+     */
+    @Scheduled(fixedDelayString = "PT15S")
+    public void heartbeat() {
+        subscribers.forEach(subscriber -> subscriber.offer(HEARTBEAT));
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<ReservationEvent> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        private volatile boolean closed;
+        private long lastSentPosition;
+
+        Subscriber(SseEmitter emitter, long lastSentPosition) {
+            this.emitter = emitter;
+            this.lastSentPosition = lastSentPosition;
+        }
+
+        void offer(ReservationEvent event) {
+            if (!queue.offer(event)) {
+                log.info("Reservation event subscriber fell behind, closing its stream");
+                emitter.complete();
+                close();
+            }
+        }
+
+        void run(Long resumeAfter) {
+            try {
+                if (resumeAfter != null) {
+                    replay();
+                }
+                while (!closed) {
+                    ReservationEvent event = queue.poll(POLL_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                    if (event != null) {
+                        send(event);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Reservation event stream closed: {}", e.getMessage());
+                close();
+            }
+        }
+
+        void close() {
+            closed = true;
+            subscribers.remove(this);
+        }
+
+        private void replay() throws IOException {
+            List<OutboxEvent> events;
+            do {
+                events = outboxEventRepository.findPublishedAfter(lastSentPosition, PageRequest.of(0, REPLAY_BATCH_SIZE));
+                for (OutboxEvent event : events) {
+                    emit(event.toEvent());
+                }
+            } while (events.size() == REPLAY_BATCH_SIZE);
+        }
+
+        private void send(ReservationEvent event) throws IOException {
+            if (event == HEARTBEAT) {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+                return;
+            }
+            // Events already replayed, or received twice, are skipped.
+            if (event.position() <= lastSentPosition) {
+                return;
+            }
+            // Events published in between did not reach this instance; they are read back along with this one.
+            if (lastSentPosition != NOT_STARTED && event.position() > lastSentPosition + 1) {
+                replay();
+                return;
+            }
+            emit(event);
+        }
+
+        private void emit(ReservationEvent event) throws IOException {
+            emitter.send(SseEmitter.event()
+                    .id(String.valueOf(event.position()))
+                    .name(event.type().name())
+                    .data(event, MediaType.APPLICATION_JSON));
+            lastSentPosition = event.position();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.linktic.reservation_system_api.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linktic.reservation_system_api.entity.OutboxEvent;
+import com.linktic.reservation_system_api.event.ReservationEventType;
+import com.linktic.reservation_system_api.event.RoomStatusChangedEvent;
+import com.linktic.reservation_system_api.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Writes reservation changes to the outbox, in the transaction making the change.
+ * The {@link OutboxPublisher} publishes them once committed.
+ */
+@RequiredArgsConstructor
+@Component
+public class ReservationOutbox {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Records a reservation change.
+     *
+     * @param type the type of the change.
+     * @param reservationId the ID of the reservation changed.
+     * @param payload the payload of the change, serialized as JSON.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(ReservationEventType type, Long reservationId, Object payload) {
+        outboxEventRepository.save(OutboxEvent.builder()
+                .type(type)
+                .reservationId(reservationId)
+                .payload(write(payload))
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    /**
+     * Records a change of room status, published in the transaction making it.
+     *
+     * @param event the status change.
+     */
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onRoomStatusChanged(RoomStatusChangedEvent event) {
+        record(ReservationEventType.ROOM_STATUS_CHANGED, null, Map.of("roomIds", event.roomIds(), "status", event.status()));
+    }
+
+    private String write(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.linktic.reservation_system_api.repository;
+
+import com.linktic.reservation_system_api.entity.OutboxCursor;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+/**
+ * Repository for the OutboxCursor entity.
+ */
+public interface OutboxCursorRepository extends JpaRepository<OutboxCursor, Integer> {
+
+    /**
+     * Locks the cursor until the end of the transaction, waiting for the publisher holding it.
+     *
+     * @param id the ID of the cursor.
+     * @return the locked cursor, if it exists.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT outboxCursor FROM OutboxCursor outboxCursor WHERE outboxCursor.id = :id")
+    Optional<OutboxCursor> lock(@Param("id") Integer id);
+}
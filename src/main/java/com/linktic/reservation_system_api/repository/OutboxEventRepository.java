@@ -0,0 +1,56 @@
+package com.linktic.reservation_system_api.repository;
+
+import com.linktic.reservation_system_api.entity.OutboxEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository for the OutboxEvent entity.
+ */
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Locks the oldest pending events for publication.
+     * Rows locked by another publisher are skipped, so several instances lock distinct batches; they then
+     * take turns through the outbox cursor to number and publish them.
+     *
+     * @param pageable the maximum number of events to lock.
+     * @return the pending events, in ID order.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT event FROM OutboxEvent event WHERE event.publishedAt IS NULL ORDER BY event.id")
+    List<OutboxEvent> lockPending(Pageable pageable);
+
+    /**
+     * Finds the published events after the given position, for consumers resuming a stream.
+     *
+     * @param position the position of the last event the consumer received.
+     * @param pageable the maximum number of events to return.
+     * @return the published events, in position order.
+     */
+    @Query("SELECT event FROM OutboxEvent event WHERE event.publishPosition > :position ORDER BY event.publishPosition")
+    List<OutboxEvent> findPublishedAfter(@Param("position") Long position, Pageable pageable);
+
+    /**
+     * Deletes the events published before the given date in a single statement.
+     *
+     * @param date the date before which published events are deleted.
+     * @return the number of events deleted.
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM OutboxEvent event WHERE event.publishedAt < :date")
+    int deletePublishedBefore(@Param("date") LocalDateTime date);
+}
@@ -0,0 +1,46 @@
+package com.linktic.reservation_system_api.repository;
+
+import com.linktic.reservation_system_api.dto.ReservationRow;
+import com.linktic.reservation_system_api.util.RoomType;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Repository fragment reading reservations through dynamically composed filters.
+ * Only the filters actually supplied end up in the SQL statement; see {@link ReservationSpecifications}.
+ */
+public interface ReservationFilterRepository {
+
+    /**
+     * Finds a page of reservations that match the provided filters, ordered by reservation date and ID.
+     * Pages are read with keyset pagination: the next page starts right after the given position.
+     *
+     * @param startDate The earliest reservation date. If null, this filter is ignored.
+     * @param endDate The latest reservation date. If null, this filter is ignored.
+     * @param roomType The type of room to filter by. If null, this filter is ignored.
+     * @param userId The ID of the user who made the reservation. If null, this filter is ignored.
+     * @param afterDate The reservation date of the last reservation already read. If null, the first page is read.
+     * @param afterId The ID of the last reservation already read.
+     * @param pageable The page size; the page number is always 0.
+     * @return A list of reservation projections, with their user and role, matching the provided filters.
+     */
+    List<ReservationRow> findReservationsByFilters(LocalDateTime startDate, LocalDateTime endDate, RoomType roomType,
+                                                   Long userId, LocalDateTime afterDate, Long afterId, Pageable pageable);
+
+    /**
+     * Streams all reservations that match the provided filters, ordered by reservation date and ID.
+     * Rows are fetched from the database in chunks, so the stream must be consumed and closed
+     * within a transaction.
+     *
+     * @param startDate The earliest reservation date. If null, this filter is ignored.
+     * @param endDate The latest reservation date. If null, this filter is ignored.
+     * @param roomType The type of room to filter by. If null, this filter is ignored.
+     * @param userId The ID of the user who made the reservation. If null, this filter is ignored.
+     * @return A stream of reservation projections, with their user and role, matching the provided filters.
+     */
+    Stream<ReservationRow> streamReservationsByFilters(LocalDateTime startDate, LocalDateTime endDate, RoomType roomType,
+                                                       Long userId);
+}
@@ -0,0 +1,84 @@
+package com.linktic.reservation_system_api.repository;
+
+import com.linktic.reservation_system_api.dto.ReservationRow;
+import com.linktic.reservation_system_api.entity.Reservation;
+import com.linktic.reservation_system_api.entity.Role;
+import com.linktic.reservation_system_api.entity.User;
+import com.linktic.reservation_system_api.util.RoomType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static com.linktic.reservation_system_api.repository.ReservationSpecifications.after;
+import static com.linktic.reservation_system_api.repository.ReservationSpecifications.hasRoomOfType;
+import static com.linktic.reservation_system_api.repository.ReservationSpecifications.madeBy;
+import static com.linktic.reservation_system_api.repository.ReservationSpecifications.reservedFrom;
+import static com.linktic.reservation_system_api.repository.ReservationSpecifications.reservedUntil;
+
+/**
+ * Criteria implementation of {@link ReservationFilterRepository}, projecting straight into {@link ReservationRow}.
+ */
+class ReservationFilterRepositoryImpl implements ReservationFilterRepository {
+
+    private static final int STREAM_FETCH_SIZE = 500;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<ReservationRow> findReservationsByFilters(LocalDateTime startDate, LocalDateTime endDate, RoomType roomType,
+                                                          Long userId, LocalDateTime afterDate, Long afterId, Pageable pageable) {
+        Specification<Reservation> filters = filters(startDate, endDate, roomType, userId).and(after(afterDate, afterId));
+        return query(filters)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+    }
+
+    @Override
+    public Stream<ReservationRow> streamReservationsByFilters(LocalDateTime startDate, LocalDateTime endDate, RoomType roomType,
+                                                              Long userId) {
+        return query(filters(startDate, endDate, roomType, userId))
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .getResultStream();
+    }
+
+    private Specification<Reservation> filters(LocalDateTime startDate, LocalDateTime endDate, RoomType roomType, Long userId) {
+        return Specification.where(reservedFrom(startDate))
+                .and(reservedUntil(endDate))
+                .and(hasRoomOfType(roomType))
+                .and(madeBy(userId));
+    }
+
+    private TypedQuery<ReservationRow> query(Specification<Reservation> filters) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ReservationRow> query = cb.createQuery(ReservationRow.class);
+        Root<Reservation> reservation = query.from(Reservation.class);
+        Join<Reservation, User> user = reservation.join("user", JoinType.LEFT);
+        Join<User, Role> role = user.join("role", JoinType.LEFT);
+
+        query.select(cb.construct(ReservationRow.class,
+                reservation.get("id"), reservation.get("bookingDate"), reservation.get("reservationDate"), reservation.get("checkOutDate"),
+                user.get("id"), user.get("firstName"), user.get("lastName"), user.get("phone"), user.get("email"),
+                user.get("createdAt"), role.get("id"), role.get("name")));
+        Predicate predicate = filters.toPredicate(reservation, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(cb.asc(reservation.get("reservationDate")), cb.asc(reservation.get("id")));
+        return entityManager.createQuery(query);
+    }
+}
@@ -1,49 +1,109 @@
 package com.linktic.reservation_system_api.repository;
 
+import com.linktic.reservation_system_api.dto.ReservationRoomRow;
+import com.linktic.reservation_system_api.dto.ReservationRow;
+import com.linktic.reservation_system_api.dto.UserReservationRow;
 import com.linktic.reservation_system_api.entity.Reservation;
-import com.linktic.reservation_system_api.entity.User;
-import com.linktic.reservation_system_api.util.RoomType;
-import jakarta.annotation.Nullable;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
- * Repository interface for managing reservations with customizable filters.
+ * Repository interface for managing reservations.
  *
- * This repository provides a method to find reservations based on multiple criteria:
+ * Reservations are filtered through {@link ReservationFilterRepository}, which pages through or streams
+ * reservations based on multiple criteria:
  * - A range of reservation dates (`startDate` and `endDate`)
  * - The type of room associated with the reservation (`roomType`)
- * - The user who made the reservation (`user`)
+ * - The user who made the reservation (`userId`)
  *
- * If any of these parameters is null, the corresponding filter will be ignored.
- *
- * Note: The `startDate` and `endDate` parameters are cast to `timestamp` to ensure
- * correct handling of null values in the query.
+ * If any of these parameters is null, the corresponding filter is left out of the query.
  */
-public interface ReservationRepository extends JpaRepository<Reservation, Long> {
+public interface ReservationRepository extends JpaRepository<Reservation, Long>, ReservationFilterRepository {
+    /**
+     * Finds a reservation projection, with its user and role, by the reservation ID.
+     *
+     * @param id the ID of the reservation.
+     * @return the reservation projection, if found.
+     */
+    @Query("SELECT new com.linktic.reservation_system_api.dto.ReservationRow(" +
+            "r.id, r.bookingDate, r.reservationDate, r.checkOutDate, u.id, u.firstName, u.lastName, u.phone, u.email, u.createdAt, " +
+            "role.id, role.name) " +
+            "FROM Reservation r LEFT JOIN r.user u LEFT JOIN u.role role " +
+            "WHERE r.id = :id")
+    Optional<ReservationRow> findRowById(@Param("id") Long id);
+
+    /**
+     * Finds the first page of the reservations of a user, newest first.
+     * Only reservation columns are read, so the page is answered from the covering index on
+     * (user_id, reservation_date DESC, id DESC) without joining users nor loading the user's reservations.
+     *
+     * @param userId the ID of the user.
+     * @param pageable the page size; the page number is always 0.
+     * @return the reservation projections.
+     */
+    @Query("SELECT new com.linktic.reservation_system_api.dto.UserReservationRow(r.id, r.bookingDate, r.reservationDate, r.checkOutDate) " +
+            "FROM Reservation r WHERE r.user.id = :userId " +
+            "ORDER BY r.reservationDate DESC, r.id DESC")
+    List<UserReservationRow> findUserHistory(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * Finds the next page of the reservations of a user, newest first, right after the given position.
+     *
+     * @param userId the ID of the user.
+     * @param beforeDate the reservation date of the last reservation already read.
+     * @param beforeId the ID of the last reservation already read.
+     * @param pageable the page size; the page number is always 0.
+     * @return the reservation projections.
+     */
+    @Query("SELECT new com.linktic.reservation_system_api.dto.UserReservationRow(r.id, r.bookingDate, r.reservationDate, r.checkOutDate) " +
+            "FROM Reservation r WHERE r.user.id = :userId " +
+            "AND (r.reservationDate < :beforeDate OR (r.reservationDate = :beforeDate AND r.id < :beforeId)) " +
+            "ORDER BY r.reservationDate DESC, r.id DESC")
+    List<UserReservationRow> findUserHistoryBefore(@Param("userId") Long userId,
+                                                   @Param("beforeDate") LocalDateTime beforeDate,
+                                                   @Param("beforeId") Long beforeId,
+                                                   Pageable pageable);
+
+    /**
+     * Finds the rooms held by the given reservations in a single query.
+     *
+     * @param reservationIds the IDs of the reservations.
+     * @return the room projections, each with the ID of its reservation.
+     */
+    @Query("SELECT new com.linktic.reservation_system_api.dto.ReservationRoomRow(" +
+            "stay.reservation.id, room.id, room.roomNumber, room.type, room.status, room.price) " +
+            "FROM RoomStay stay JOIN stay.room room WHERE stay.reservation.id IN :reservationIds " +
+            "ORDER BY room.id")
+    List<ReservationRoomRow> findRoomRows(@Param("reservationIds") Collection<Long> reservationIds);
+
     /**
-     * Finds reservations that match the provided filters.
+     * Changes the stay of a reservation in a single statement, provided its version has not
+     * changed since it was read. The version is incremented even if the stay is unchanged, so
+     * concurrent changes of the same reservation always conflict.
      *
-     * @param startDate The start date of the reservation range. If null, this filter is ignored.
-     * @param endDate The end date of the reservation range. If null, this filter is ignored.
-     * @param roomType The type of room to filter by. If null, this filter is ignored.
-     * @param user The user who made the reservation. If null, this filter is ignored.
-     * @return A list of reservations matching the provided filters.
+     * @param id the ID of the reservation.
+     * @param version the version of the reservation when it was read.
+     * @param reservationDate the new reservation (check-in) date.
+     * @param checkOutDate the new check-out date.
+     * @return the number of reservations updated, 0 if the reservation was changed concurrently.
      */
-    @Query("SELECT DISTINCT r FROM Reservation r " +
-            "JOIN r.rooms room " +
-            "WHERE (cast(:startDate as timestamp) IS NULL OR cast(:endDate as timestamp) IS NULL OR r.reservationDate BETWEEN :startDate AND :endDate) " +
-            "AND (:roomType IS NULL OR room.type = :roomType) " +
-            "AND (:user IS NULL OR r.user = :user)")
-    List<Reservation> findReservationsByFilters(
-            @Param("startDate") LocalDateTime startDate,
-            @Param("endDate") LocalDateTime endDate,
-            @Param("roomType") RoomType roomType,
-            @Param("user") User user);
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Reservation r SET r.reservationDate = :reservationDate, r.checkOutDate = :checkOutDate, " +
+            "r.version = r.version + 1 " +
+            "WHERE r.id = :id AND r.version = :version")
+    int updateStay(@Param("id") Long id,
+                   @Param("version") Long version,
+                   @Param("reservationDate") LocalDateTime reservationDate,
+                   @Param("checkOutDate") LocalDateTime checkOutDate);
 
 }
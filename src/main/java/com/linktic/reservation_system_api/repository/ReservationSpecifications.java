@@ -0,0 +1,95 @@
+package com.linktic.reservation_system_api.repository;
+
+import com.linktic.reservation_system_api.entity.Reservation;
+import com.linktic.reservation_system_api.entity.RoomStay;
+import com.linktic.reservation_system_api.util.RoomType;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+
+/**
+ * Reusable filters on reservations.
+ * Each filter is null when its argument is null, so composing them with {@link Specification#and}
+ * only emits the predicates actually supplied and leaves the planner free to use the matching index.
+ */
+public final class ReservationSpecifications {
+
+    private ReservationSpecifications() {
+    }
+
+    /**
+     * Reservations scheduled on or after the given date.
+     *
+     * @param startDate the earliest reservation date, or null for no lower bound.
+     * @return the filter, or null if no date is given.
+     */
+    public static Specification<Reservation> reservedFrom(LocalDateTime startDate) {
+        if (startDate == null) {
+            return null;
+        }
+        return (reservation, query, cb) -> cb.greaterThanOrEqualTo(reservation.get("reservationDate"), startDate);
+    }
+
+    /**
+     * Reservations scheduled on or before the given date.
+     *
+     * @param endDate the latest reservation date, or null for no upper bound.
+     * @return the filter, or null if no date is given.
+     */
+    public static Specification<Reservation> reservedUntil(LocalDateTime endDate) {
+        if (endDate == null) {
+            return null;
+        }
+        return (reservation, query, cb) -> cb.lessThanOrEqualTo(reservation.get("reservationDate"), endDate);
+    }
+
+    /**
+     * Reservations holding at least one room of the given type.
+     *
+     * @param roomType the room type, or null for any type.
+     * @return the filter, or null if no room type is given.
+     */
+    public static Specification<Reservation> hasRoomOfType(RoomType roomType) {
+        if (roomType == null) {
+            return null;
+        }
+        return (reservation, query, cb) -> {
+            Subquery<Long> rooms = query.subquery(Long.class);
+            Root<RoomStay> stay = rooms.from(RoomStay.class);
+            rooms.select(stay.get("id"))
+                    .where(cb.equal(stay.get("reservation"), reservation), cb.equal(stay.get("room").get("type"), roomType));
+            return cb.exists(rooms);
+        };
+    }
+
+    /**
+     * Reservations made by the given user.
+     *
+     * @param userId the ID of the user, or null for any user.
+     * @return the filter, or null if no user is given.
+     */
+    public static Specification<Reservation> madeBy(Long userId) {
+        if (userId == null) {
+            return null;
+        }
+        return (reservation, query, cb) -> cb.equal(reservation.get("user").get("id"), userId);
+    }
+
+    /**
+     * Reservations positioned after the given one in reservation date and ID order, for keyset pagination.
+     *
+     * @param afterDate the reservation date of the last reservation already read, or null for the first page.
+     * @param afterId the ID of the last reservation already read.
+     * @return the filter, or null if no position is given.
+     */
+    public static Specification<Reservation> after(LocalDateTime afterDate, Long afterId) {
+        if (afterDate == null) {
+            return null;
+        }
+        return (reservation, query, cb) -> cb.or(
+                cb.greaterThan(reservation.get("reservationDate"), afterDate),
+                cb.and(cb.equal(reservation.get("reservationDate"), afterDate), cb.greaterThan(reservation.get("id"), afterId)));
+    }
+}
@@ -0,0 +1,23 @@
+package com.linktic.reservation_system_api.repository;
+
+import com.linktic.reservation_system_api.entity.Room;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository fragment loading rooms through the second-level cache.
+ * Queries such as {@code findAllById} always go to the database; rooms loaded here by identifier are
+ * resolved from the persistence context or the cache first, and only the missing ones are fetched.
+ */
+public interface RoomCacheRepository {
+
+    /**
+     * Loads the rooms with the given IDs, from the second-level cache where possible.
+     * Rooms missing from the cache are fetched in a single query.
+     *
+     * @param ids the IDs of the rooms.
+     * @return the existing rooms, in no particular order.
+     */
+    List<Room> loadAllById(Collection<Long> ids);
+}
@@ -0,0 +1,35 @@
+package com.linktic.reservation_system_api.repository;
+
+import com.linktic.reservation_system_api.entity.Room;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Multi-load implementation of {@link RoomCacheRepository}.
+ */
+class RoomCacheRepositoryImpl implements RoomCacheRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Room> loadAllById(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return entityManager.unwrap(Session.class)
+                .byMultipleIds(Room.class)
+                .with(CacheMode.NORMAL)
+                .enableSessionCheck(true)
+                .multiLoad(List.copyOf(ids))
+                .stream()
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
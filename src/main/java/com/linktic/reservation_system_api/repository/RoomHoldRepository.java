@@ -0,0 +1,49 @@
+package com.linktic.reservation_system_api.repository;
+
+import com.linktic.reservation_system_api.entity.RoomHold;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository for the RoomHold entity, the persisted copy of the holds kept in memory.
+ */
+public interface RoomHoldRepository extends JpaRepository<RoomHold, Long> {
+
+    /**
+     * Finds the holds that have not lapsed yet, with their rooms, in a single query.
+     *
+     * @param date the current date.
+     * @return the active holds.
+     */
+    @Query("SELECT DISTINCT hold FROM RoomHold hold LEFT JOIN FETCH hold.roomIds WHERE hold.expiresAt > :date")
+    List<RoomHold> findActive(@Param("date") LocalDateTime date);
+
+    /**
+     * Removes the given holds in a single statement; their rooms are removed by the database.
+     *
+     * @param ids the IDs of the holds.
+     * @return the number of holds removed.
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RoomHold hold WHERE hold.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Removes the holds that lapsed before a date in a single statement.
+     *
+     * @param date the date.
+     * @return the number of holds removed.
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RoomHold hold WHERE hold.expiresAt <= :date")
+    int deleteExpired(@Param("date") LocalDateTime date);
+}
@@ -1,11 +1,125 @@
 package com.linktic.reservation_system_api.repository;
 
+import com.linktic.reservation_system_api.dto.RoomOccupancy;
+import com.linktic.reservation_system_api.dto.RoomView;
 import com.linktic.reservation_system_api.entity.Room;
+import com.linktic.reservation_system_api.util.RoomStatus;
+import com.linktic.reservation_system_api.util.RoomType;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * Repository for the Room entity.
- * Provides basic CRUD operations.
+ * Provides basic CRUD operations, and loads rooms through the second-level cache with {@link RoomCacheRepository}.
  */
-public interface RoomRepository extends JpaRepository<Room, Long> {
+public interface RoomRepository extends JpaRepository<Room, Long>, RoomCacheRepository {
+
+    /**
+     * Finds the read models of the rooms of the given types, ordered by ID, without loading room entities.
+     *
+     * @param types the room types.
+     * @return the read models of the rooms of those types.
+     */
+    @Query("SELECT new com.linktic.reservation_system_api.dto.RoomView(" +
+            "room.id, room.roomNumber, room.type, room.status, room.price) " +
+            "FROM Room room WHERE room.type IN :types ORDER BY room.id")
+    List<RoomView> findViewsByTypeIn(@Param("types") Collection<? extends RoomType> types);
+
+    /**
+     * Finds the occupancy of every room: each of its stays ending after the given date.
+     * Rooms without such stays are returned once, without a reservation.
+     *
+     * @param date the date from which stays are still relevant.
+     * @return the occupancy of all rooms, one row per stay.
+     */
+    @Query("SELECT new com.linktic.reservation_system_api.dto.RoomOccupancy(" +
+            "room.id, stay.reservation.id, stay.checkIn, stay.checkOut) " +
+            "FROM Room room LEFT JOIN RoomStay stay ON stay.room = room AND stay.checkOut > :date")
+    List<RoomOccupancy> findOccupanciesEndingAfter(@Param("date") LocalDateTime date);
+
+    /**
+     * Locks the rooms in one of the given statuses that have a stay running at some point of a range.
+     * Rooms locked by another transaction are skipped.
+     *
+     * @param statuses the statuses of the rooms.
+     * @param from the start of the range.
+     * @param until the end of the range (inclusive).
+     * @param pageable the maximum number of rooms to lock.
+     * @return the IDs of the rooms, in ID order.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT room.id FROM Room room WHERE room.status IN :statuses AND EXISTS (" +
+            "SELECT stay.id FROM RoomStay stay WHERE stay.room = room AND stay.checkIn <= :until AND stay.checkOut > :from) " +
+            "ORDER BY room.id")
+    List<Long> lockWithStayBetween(@Param("statuses") Collection<RoomStatus> statuses,
+                                   @Param("from") LocalDateTime from,
+                                   @Param("until") LocalDateTime until,
+                                   Pageable pageable);
+
+    /**
+     * Locks the rooms in the given status that have no stay running at any point of a range.
+     * Rooms locked by another transaction are skipped.
+     *
+     * @param status the status of the rooms.
+     * @param from the start of the range.
+     * @param until the end of the range (inclusive).
+     * @param pageable the maximum number of rooms to lock.
+     * @return the IDs of the rooms, in ID order.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT room.id FROM Room room WHERE room.status = :status AND NOT EXISTS (" +
+            "SELECT stay.id FROM RoomStay stay WHERE stay.room = room AND stay.checkIn <= :until AND stay.checkOut > :from) " +
+            "ORDER BY room.id")
+    List<Long> lockWithoutStayBetween(@Param("status") RoomStatus status,
+                                      @Param("from") LocalDateTime from,
+                                      @Param("until") LocalDateTime until,
+                                      Pageable pageable);
+
+    /**
+     * Locks the occupied rooms whose guests checked out: a stay ended since the room was occupied,
+     * or no stay is running anymore. Rooms locked by another transaction are skipped.
+     *
+     * @param date the current date.
+     * @param pageable the maximum number of rooms to lock.
+     * @return the IDs of the rooms, in ID order.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT room.id FROM Room room WHERE room.status = com.linktic.reservation_system_api.util.RoomStatus.OCCUPIED AND (" +
+            "EXISTS (SELECT stay.id FROM RoomStay stay WHERE stay.room = room " +
+            "AND stay.checkOut <= :date AND stay.checkOut > room.statusChangedAt) " +
+            "OR NOT EXISTS (SELECT stay.id FROM RoomStay stay WHERE stay.room = room " +
+            "AND stay.checkIn <= :date AND stay.checkOut > :date)) " +
+            "ORDER BY room.id")
+    List<Long> lockCheckedOut(@Param("date") LocalDateTime date, Pageable pageable);
+
+    /**
+     * Locks the rooms that have been in the given status since before a date.
+     * Rooms locked by another transaction are skipped.
+     *
+     * @param status the status of the rooms.
+     * @param date the date before which the status was set.
+     * @param pageable the maximum number of rooms to lock.
+     * @return the IDs of the rooms, in ID order.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT room.id FROM Room room WHERE room.status = :status " +
+            "AND (room.statusChangedAt IS NULL OR room.statusChangedAt <= :date) " +
+            "ORDER BY room.id")
+    List<Long> lockInStatusSince(@Param("status") RoomStatus status,
+                                 @Param("date") LocalDateTime date,
+                                 Pageable pageable);
 }
@@ -0,0 +1,61 @@
+package com.linktic.reservation_system_api.repository;
+
+import com.linktic.reservation_system_api.dto.RoomStayRow;
+import com.linktic.reservation_system_api.entity.RoomStay;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository for the RoomStay entity, the rooms held by each reservation.
+ */
+public interface RoomStayRepository extends JpaRepository<RoomStay, Long> {
+
+    /**
+     * Removes every stay of a reservation in a single statement.
+     * The statement runs immediately, before any stay inserted afterwards is flushed, so a reservation
+     * can replace its stays in one transaction without overlapping its own.
+     * The persistence context is cleared afterwards, so previously loaded entities are detached.
+     *
+     * @param reservationId the ID of the reservation.
+     * @return the number of stays removed.
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM RoomStay stay WHERE stay.reservation.id = :reservationId")
+    int deleteByReservationId(@Param("reservationId") Long reservationId);
+
+    /**
+     * Finds the stays overlapping a range, with the type and price of their room, without loading entities.
+     *
+     * @param from the start of the range.
+     * @param to the end of the range (exclusive).
+     * @return the stays overlapping the range.
+     */
+    @Query("SELECT new com.linktic.reservation_system_api.dto.RoomStayRow(stay.id, stay.checkIn, stay.checkOut, room.type, room.price) " +
+            "FROM RoomStay stay JOIN stay.room room WHERE stay.checkIn < :to AND stay.checkOut > :from")
+    List<RoomStayRow> findRowsBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    /**
+     * Finds the stays of a reservation, with the type and price of their room, without loading entities.
+     *
+     * @param reservationId the ID of the reservation.
+     * @return the stays of the reservation.
+     */
+    @Query("SELECT new com.linktic.reservation_system_api.dto.RoomStayRow(stay.id, stay.checkIn, stay.checkOut, room.type, room.price) " +
+            "FROM RoomStay stay JOIN stay.room room WHERE stay.reservation.id = :reservationId")
+    List<RoomStayRow> findRowsByReservationId(@Param("reservationId") Long reservationId);
+
+    /**
+     * Finds the latest check-out of all stays.
+     *
+     * @return the latest check-out date, or null if there are no stays.
+     */
+    @Query("SELECT MAX(stay.checkOut) FROM RoomStay stay")
+    LocalDateTime findLastCheckOut();
+}
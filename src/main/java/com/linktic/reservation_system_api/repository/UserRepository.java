@@ -1,10 +1,32 @@
 package com.linktic.reservation_system_api.repository;
 
 import com.linktic.reservation_system_api.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
+    /**
+     * Region of the query cache holding the user ID found for each email.
+     */
+    String USER_BY_EMAIL_REGION = "userByEmail";
+
+    /**
+     * Finds a user, with its role, by email in a single query.
+     * Results are kept in the query cache and the user in the second-level cache, so repeated lookups
+     * cost no query until the users table changes.
+     *
+     * @param email the email of the user.
+     * @return the user, if found.
+     */
+    @EntityGraph(attributePaths = "role")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = USER_BY_EMAIL_REGION)
+    })
     Optional<User> findByEmail(String email);
 }
@@ -0,0 +1,33 @@
+package com.linktic.reservation_system_api.service;
+
+import com.linktic.reservation_system_api.dto.OccupancyStats;
+import com.linktic.reservation_system_api.dto.Response;
+import com.linktic.reservation_system_api.util.Granularity;
+import com.linktic.reservation_system_api.util.RoomType;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Service for occupancy and revenue analytics.
+ */
+public interface AnalyticsService {
+
+    /**
+     * Gets the occupancy and revenue per period and room type over a date range.
+     *
+     * @param from the first day of the range.
+     * @param to the last day of the range (exclusive).
+     * @param granularity the size of the periods.
+     * @param roomType the type of room, or null for every type.
+     * @return an {@link Response} containing the statistics ordered by period and room type, or a validation error.
+     */
+    Response<List<OccupancyStats>> getOccupancy(LocalDate from, LocalDate to, Granularity granularity, RoomType roomType);
+
+    /**
+     * Recomputes the analytics from the stored reservations.
+     *
+     * @return an {@link Response} reporting whether the analytics were rebuilt, or a conflict if a rebuild is already running.
+     */
+    Response<Void> rebuild();
+}
@@ -0,0 +1,100 @@
+package com.linktic.reservation_system_api.service;
+
+import com.linktic.reservation_system_api.analytics.OccupancyCounters;
+import com.linktic.reservation_system_api.cache.RoomCatalogCache;
+import com.linktic.reservation_system_api.config.AnalyticsProperties;
+import com.linktic.reservation_system_api.dto.OccupancyStats;
+import com.linktic.reservation_system_api.dto.Response;
+import com.linktic.reservation_system_api.dto.RoomView;
+import com.linktic.reservation_system_api.util.Granularity;
+import com.linktic.reservation_system_api.util.RoomType;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+@Slf4j
+@Service
+@Timed(value = "analytics.service", description = "Analytics service method execution")
+public class AnalyticsServiceImpl implements AnalyticsService {
+
+    private final OccupancyCounters occupancyCounters;
+    private final RoomCatalogCache roomCatalogCache;
+    private final AnalyticsProperties properties;
+
+    /**
+     * Answers from the occupancy counters, one lookup per day and room type; the capacity of each type
+     * is the number of rooms of the type in the catalog.
+     */
+    @Override
+    public Response<List<OccupancyStats>> getOccupancy(LocalDate from, LocalDate to, Granularity granularity, RoomType roomType) {
+        if (from == null || to == null) {
+            return new Response<>(false, "From and to dates are required", HttpStatus.BAD_REQUEST.value(), null);
+        }
+        if (!from.isBefore(to)) {
+            return new Response<>(false, "From date must be before to date", HttpStatus.BAD_REQUEST.value(), null);
+        }
+        if (ChronoUnit.DAYS.between(from, to) > properties.maxRange().toDays()) {
+            return new Response<>(false, "Date range must not exceed " + properties.maxRange().toDays() + " days",
+                    HttpStatus.BAD_REQUEST.value(), null);
+        }
+        LocalDate coveredFrom = occupancyCounters.coveredFrom();
+        if (from.isBefore(coveredFrom)) {
+            return new Response<>(false, "Analytics are available from " + coveredFrom, HttpStatus.BAD_REQUEST.value(), null);
+        }
+
+        Map<RoomType, Long> capacity = new EnumMap<>(RoomType.class);
+        for (RoomView room : roomCatalogCache.getAll()) {
+            capacity.merge(room.type(), 1L, Long::sum);
+        }
+        Granularity periods = granularity == null ? Granularity.DAY : granularity;
+        RoomType[] types = roomType == null ? RoomType.values() : new RoomType[]{roomType};
+
+        List<OccupancyStats> stats = new ArrayList<>();
+        LocalDate periodStart = from;
+        while (periodStart.isBefore(to)) {
+            LocalDate next = periods.periodStart(periodStart).plusDays(periods == Granularity.WEEK ? 7 : 1);
+            LocalDate periodEnd = next.isAfter(to) ? to : next;
+            for (RoomType type : types) {
+                stats.add(periodStats(periods.periodStart(periodStart), periodStart, periodEnd, type,
+                        capacity.getOrDefault(type, 0L)));
+            }
+            periodStart = periodEnd;
+        }
+        log.debug("Computed {} occupancy statistics", stats.size());
+        return new Response<>(true, "Occupancy fetched successfully", HttpStatus.OK.value(), stats);
+    }
+
+    @Override
+    public Response<Void> rebuild() {
+        if (!occupancyCounters.rebuild()) {
+            return new Response<>(false, "A rebuild is already running", HttpStatus.CONFLICT.value(), null);
+        }
+        return new Response<>(true, "Analytics rebuilt successfully", HttpStatus.OK.value(), null);
+    }
+
+    /**
+     * Sums the counters of a room type over the days of a period within the requested range.
+     */
+    private OccupancyStats periodStats(LocalDate period, LocalDate from, LocalDate to, RoomType type, long rooms) {
+        long bookedNights = 0;
+        BigDecimal revenue = BigDecimal.ZERO;
+        for (LocalDate day = from; day.isBefore(to); day = day.plusDays(1)) {
+            bookedNights += occupancyCounters.nights(day, type);
+            revenue = revenue.add(occupancyCounters.revenue(day, type));
+        }
+        long availableNights = rooms * ChronoUnit.DAYS.between(from, to);
+        double occupancyRate = availableNights == 0 ? 0 : (double) bookedNights / availableNights;
+        return new OccupancyStats(period, type, bookedNights, availableNights, occupancyRate, revenue);
+    }
+}
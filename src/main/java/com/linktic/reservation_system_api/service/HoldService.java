@@ -0,0 +1,36 @@
+package com.linktic.reservation_system_api.service;
+
+import com.linktic.reservation_system_api.dto.Response;
+import com.linktic.reservation_system_api.dto.RoomHoldDTO;
+import com.linktic.reservation_system_api.dto.RoomHoldView;
+
+/**
+ * Service for holding rooms while guests complete their checkout.
+ */
+public interface HoldService {
+
+    /**
+     * Holds rooms for a stay for a short time, so they can be booked without competing for them.
+     *
+     * @param holdDto the hold request.
+     * @return an {@link Response} containing the hold, or the validation error if the rooms cannot be held.
+     */
+    Response<RoomHoldView> placeHold(RoomHoldDTO holdDto);
+
+    /**
+     * Retrieves a hold that has not lapsed.
+     *
+     * @param id the ID of the hold.
+     * @return an {@link Response} containing the hold, or an error if it is unknown or lapsed.
+     */
+    Response<RoomHoldView> getHold(Long id);
+
+    /**
+     * Releases a hold before it lapses, on behalf of the user who placed it.
+     *
+     * @param id the ID of the hold.
+     * @param userEmail the email of the user releasing the hold.
+     * @return an {@link Response} indicating the success or failure of the operation.
+     */
+    Response<Void> releaseHold(Long id, String userEmail);
+}
@@ -0,0 +1,147 @@
+package com.linktic.reservation_system_api.service;
+
+import com.linktic.reservation_system_api.availability.RoomAvailabilityIndex;
+import com.linktic.reservation_system_api.cache.UserLookupCache;
+import com.linktic.reservation_system_api.concurrency.BookingConflictException;
+import com.linktic.reservation_system_api.concurrency.RoomLocks;
+import com.linktic.reservation_system_api.config.HoldProperties;
+import com.linktic.reservation_system_api.dto.Response;
+import com.linktic.reservation_system_api.dto.RoomHoldDTO;
+import com.linktic.reservation_system_api.dto.RoomHoldView;
+import com.linktic.reservation_system_api.dto.UserView;
+import com.linktic.reservation_system_api.entity.Room;
+import com.linktic.reservation_system_api.entity.RoomHold;
+import com.linktic.reservation_system_api.hold.ActiveHold;
+import com.linktic.reservation_system_api.hold.RoomHolds;
+import com.linktic.reservation_system_api.repository.RoomHoldRepository;
+import com.linktic.reservation_system_api.repository.RoomRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+@Slf4j
+@Service
+@Timed(value = "hold.service", description = "Hold service method execution")
+public class HoldServiceImpl implements HoldService {
+
+    private final RoomHolds roomHolds;
+    private final RoomHoldRepository roomHoldRepository;
+    private final RoomRepository roomRepository;
+    private final UserLookupCache userLookupCache;
+    private final RoomAvailabilityIndex availabilityIndex;
+    private final RoomLocks roomLocks;
+    private final HoldProperties properties;
+
+    /**
+     * Checks the rooms against the availability index and the other holds under the locks of the rooms,
+     * the same locks bookings take, so a hold and a booking never both get a room. The only write is the
+     * insert of the hold, kept for recovery.
+     */
+    @Override
+    public Response<RoomHoldView> placeHold(RoomHoldDTO holdDto) {
+        LocalDateTime now = LocalDateTime.now();
+        if (holdDto.getReservationDate() == null) {
+            return new Response<>(false, "Reservation date is required", HttpStatus.BAD_REQUEST.value(), null);
+        }
+        if (now.isAfter(holdDto.getReservationDate())) {
+            return new Response<>(false, "Reservation date must be in the future", HttpStatus.BAD_REQUEST.value(), null);
+        }
+        LocalDateTime checkOutDate = holdDto.getCheckOutDate() != null ? holdDto.getCheckOutDate()
+                : holdDto.getReservationDate().plusDays(1);
+        if (!checkOutDate.isAfter(holdDto.getReservationDate())) {
+            return new Response<>(false, "Check-out date must be after reservation date", HttpStatus.BAD_REQUEST.value(), null);
+        }
+        if (holdDto.getRoomIds() == null || holdDto.getRoomIds().isEmpty()) {
+            return new Response<>(false, "Rooms can not be empty", HttpStatus.BAD_REQUEST.value(), null);
+        }
+        if (holdDto.getRoomIds().size() > properties.maxRooms()) {
+            return new Response<>(false, "A hold can not cover more than " + properties.maxRooms() + " rooms",
+                    HttpStatus.BAD_REQUEST.value(), null);
+        }
+        if (holdDto.getUserEmail() == null) {
+            return new Response<>(false, "User is required", HttpStatus.BAD_REQUEST.value(), null);
+        }
+        Optional<UserView> user = userLookupCache.findByEmail(holdDto.getUserEmail());
+        if (user.isEmpty()) {
+            log.warn("User not found with Email: {}", holdDto.getUserEmail());
+            return new Response<>(false, "User not found", HttpStatus.NOT_FOUND.value(), null);
+        }
+
+        Set<Long> roomIds = Set.copyOf(holdDto.getRoomIds());
+        try (RoomLocks.Held ignored = roomLocks.lock(roomIds)) {
+            List<Room> rooms = roomRepository.loadAllById(roomIds);
+            if (rooms.size() < roomIds.size()) {
+                return new Response<>(false, "One or more rooms do not exist", HttpStatus.NOT_FOUND.value(), null);
+            }
+            availabilityIndex.track(rooms);
+            String unavailableRooms = rooms.stream()
+                    .filter(room -> room.getStatus() == null || !room.getStatus().isBookable()
+                            || !availabilityIndex.isAvailable(room.getId(), holdDto.getReservationDate(), checkOutDate, null)
+                            || roomHolds.isHeld(room.getId(), holdDto.getReservationDate(), checkOutDate, null))
+                    .map(Room::getRoomNumber)
+                    .collect(Collectors.joining(", "));
+            if (!unavailableRooms.isEmpty()) {
+                log.debug("Rooms {} can not be held", unavailableRooms);
+                return new Response<>(false, "The following rooms are not available: " + unavailableRooms,
+                        HttpStatus.CONFLICT.value(), null);
+            }
+
+            RoomHold hold = roomHoldRepository.save(RoomHold.builder()
+                    .userId(user.get().id())
+                    .roomIds(roomIds)
+                    .reservationDate(holdDto.getReservationDate())
+                    .checkOutDate(checkOutDate)
+                    .createdAt(now)
+                    .expiresAt(now.plus(properties.ttl()))
+                    .build());
+            ActiveHold activeHold = ActiveHold.from(hold);
+            roomHolds.add(activeHold);
+            log.atInfo()
+                    .setMessage("Rooms held")
+                    .addKeyValue("holdId", activeHold.id())
+                    .addKeyValue("userId", activeHold.userId())
+                    .addKeyValue("rooms", roomIds.size())
+                    .addKeyValue("expiresAt", activeHold.expiresAt())
+                    .log();
+            return new Response<>(true, "Rooms held successfully", HttpStatus.CREATED.value(), RoomHoldView.from(activeHold));
+        } catch (BookingConflictException e) {
+            return new Response<>(false, "The rooms are being booked, please try again", HttpStatus.CONFLICT.value(), null);
+        }
+    }
+
+    @Override
+    public Response<RoomHoldView> getHold(Long id) {
+        return roomHolds.get(id)
+                .map(hold -> new Response<>(true, "Hold found", HttpStatus.OK.value(), RoomHoldView.from(hold)))
+                .orElseGet(() -> new Response<>(false, "Hold not found or expired", HttpStatus.NOT_FOUND.value(), null));
+    }
+
+    @Override
+    public Response<Void> releaseHold(Long id, String userEmail) {
+        if (userEmail == null) {
+            return new Response<>(false, "User is required", HttpStatus.BAD_REQUEST.value(), null);
+        }
+        Optional<ActiveHold> hold = roomHolds.get(id);
+        if (hold.isEmpty()) {
+            return new Response<>(false, "Hold not found or expired", HttpStatus.NOT_FOUND.value(), null);
+        }
+        Optional<UserView> user = userLookupCache.findByEmail(userEmail);
+        if (user.isEmpty() || !user.get().id().equals(hold.get().userId())) {
+            log.warn("Hold {} can not be released by {}", id, userEmail);
+            return new Response<>(false, "The hold was placed by another user", HttpStatus.FORBIDDEN.value(), null);
+        }
+        roomHoldRepository.deleteByIdIn(List.of(id));
+        roomHolds.remove(id);
+        log.debug("Hold {} released", id);
+        return new Response<>(true, "Hold released successfully", HttpStatus.OK.value(), null);
+    }
+}
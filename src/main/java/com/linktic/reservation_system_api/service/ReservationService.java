@@ -1,12 +1,16 @@
 package com.linktic.reservation_system_api.service;
 
+import com.linktic.reservation_system_api.dto.CursorPage;
 import com.linktic.reservation_system_api.dto.ReservationDTO;
+import com.linktic.reservation_system_api.dto.ReservationImportResult;
+import com.linktic.reservation_system_api.dto.ReservationView;
 import com.linktic.reservation_system_api.dto.Response;
-import com.linktic.reservation_system_api.entity.Reservation;
 import com.linktic.reservation_system_api.util.RoomType;
 
 import java.time.LocalDateTime;
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Service interface for managing reservations.
@@ -15,15 +19,41 @@ import java.util.List;
 public interface ReservationService {
 
     /**
-     * Retrieves reservations that match the provided filters.
+     * Retrieves a page of reservations that match the provided filters, ordered by reservation date and ID.
      *
      * @param startDate The start date of the reservation range. If null, this filter is ignored.
      * @param endDate The end date of the reservation range. If null, this filter is ignored.
      * @param roomType The type of room to filter by. If null, this filter is ignored.
      * @param userEmail The email of the user who made the reservation. If null, this filter is ignored.
-     * @return an {@link Response} containing the list of reservations matching the provided filters.
+     * @param cursor The cursor returned with the previous page. If null, the first page is retrieved.
+     * @param size The maximum number of reservations in the page. If null, a default size is used.
+     * @return an {@link Response} containing the page of reservations matching the provided filters.
      */
-    Response<List<Reservation>> getReservations(LocalDateTime startDate, LocalDateTime endDate, RoomType roomType, String userEmail);
+    Response<CursorPage<ReservationView>> getReservations(LocalDateTime startDate, LocalDateTime endDate, RoomType roomType,
+                                                          String userEmail, String cursor, Integer size);
+
+    /**
+     * Retrieves a page of the reservations of a user, newest first.
+     *
+     * @param userEmail The email of the user.
+     * @param cursor The cursor returned with the previous page. If null, the first page is retrieved.
+     * @param size The maximum number of reservations in the page. If null, a default size is used.
+     * @return an {@link Response} containing the page of reservations, or an error if the user does not exist.
+     */
+    Response<CursorPage<ReservationView>> getUserReservations(String userEmail, String cursor, Integer size);
+
+    /**
+     * Streams every reservation that matches the provided filters, ordered by reservation date and ID.
+     * Reservations are handed to the consumer one at a time and are not retained afterwards.
+     *
+     * @param startDate The start date of the reservation range. If null, this filter is ignored.
+     * @param endDate The end date of the reservation range. If null, this filter is ignored.
+     * @param roomType The type of room to filter by. If null, this filter is ignored.
+     * @param userEmail The email of the user who made the reservation. If null, this filter is ignored.
+     * @param consumer the consumer receiving each reservation.
+     */
+    void streamReservations(LocalDateTime startDate, LocalDateTime endDate, RoomType roomType, String userEmail,
+                            Consumer<ReservationView> consumer);
 
     /**
      * Retrieves a reservation by its ID.
@@ -31,7 +61,7 @@ public interface ReservationService {
      * @param id the ID of the reservation to retrieve.
      * @return an {@link Response} containing the reservation if found, or a not found message.
      */
-    Response<Reservation> getReservationById(Long id);
+    Response<ReservationView> getReservationById(Long id);
 
     /**
      * Saves a new reservation.
@@ -39,7 +69,7 @@ public interface ReservationService {
      * @param reservation the reservation to save.
      * @return an {@link Response} indicating the result of the save operation.
      */
-    Response<Reservation> saveReservation(ReservationDTO reservation);
+    Response<ReservationView> saveReservation(ReservationDTO reservation);
 
     /**
      * Updates an existing reservation.
@@ -48,7 +78,16 @@ public interface ReservationService {
      * @param reservation the updated reservation data.
      * @return an {@link Response} indicating the result of the update operation.
      */
-    Response<Reservation> updateReservation(Long id, ReservationDTO reservation);
+    Response<ReservationView> updateReservation(Long id, ReservationDTO reservation);
+
+    /**
+     * Imports reservations in bulk, validating each against availability and the reservations imported before it.
+     * Reservations are processed in chunks, each committed in its own transaction with batched inserts.
+     *
+     * @param reservations the reservations to import, read one at a time.
+     * @return an {@link Response} with the result of every reservation, in import order.
+     */
+    Response<List<ReservationImportResult>> importReservations(Iterator<ReservationDTO> reservations);
 
     /**
      * Deletes a reservation by its ID.
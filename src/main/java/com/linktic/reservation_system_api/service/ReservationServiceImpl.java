@@ -1,27 +1,68 @@
 package com.linktic.reservation_system_api.service;
 
+import com.linktic.reservation_system_api.analytics.OccupancyCounters;
+import com.linktic.reservation_system_api.availability.RoomAvailabilityIndex;
+import com.linktic.reservation_system_api.cache.UserLookupCache;
+import com.linktic.reservation_system_api.concurrency.BookingConflictException;
+import com.linktic.reservation_system_api.concurrency.RoomLocks;
+import com.linktic.reservation_system_api.config.BookingProperties;
+import com.linktic.reservation_system_api.dto.CursorPage;
+import com.linktic.reservation_system_api.dto.ReservationCursor;
 import com.linktic.reservation_system_api.dto.ReservationDTO;
+import com.linktic.reservation_system_api.dto.ReservationImportResult;
+import com.linktic.reservation_system_api.dto.ReservationRoomRow;
+import com.linktic.reservation_system_api.dto.ReservationRow;
+import com.linktic.reservation_system_api.dto.ReservationView;
 import com.linktic.reservation_system_api.dto.Response;
+import com.linktic.reservation_system_api.dto.RoomStayRow;
+import com.linktic.reservation_system_api.dto.RoomView;
+import com.linktic.reservation_system_api.dto.UserReservationRow;
+import com.linktic.reservation_system_api.dto.UserView;
 import com.linktic.reservation_system_api.entity.Reservation;
 import com.linktic.reservation_system_api.entity.Room;
-import com.linktic.reservation_system_api.entity.User;
+import com.linktic.reservation_system_api.entity.RoomStay;
+import com.linktic.reservation_system_api.event.ReservationEventType;
+import com.linktic.reservation_system_api.hold.ActiveHold;
+import com.linktic.reservation_system_api.hold.RoomHolds;
+import com.linktic.reservation_system_api.metrics.BookingOutcome;
+import com.linktic.reservation_system_api.metrics.ReservationMetrics;
+import com.linktic.reservation_system_api.outbox.ReservationOutbox;
 import com.linktic.reservation_system_api.repository.ReservationRepository;
+import com.linktic.reservation_system_api.repository.RoomHoldRepository;
 import com.linktic.reservation_system_api.repository.RoomRepository;
+import com.linktic.reservation_system_api.repository.RoomStayRepository;
 import com.linktic.reservation_system_api.repository.UserRepository;
-import com.linktic.reservation_system_api.util.RoomStatus;
 import com.linktic.reservation_system_api.util.RoomType;
-import jakarta.transaction.Transactional;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Service implementation for handling reservation operations.
@@ -30,34 +71,143 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 @Slf4j
 @Service
+@Timed(value = "reservation.service", description = "Reservation service method execution")
 public class ReservationServiceImpl implements ReservationService {
 
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int STREAM_CHUNK_SIZE = 500;
+    private static final int IMPORT_CHUNK_SIZE = 500;
+
     private final ReservationRepository reservationRepository;
     private final RoomRepository roomRepository;
+    private final RoomStayRepository roomStayRepository;
     private final UserRepository userRepository;
+    private final UserLookupCache userLookupCache;
+    private final RoomAvailabilityIndex availabilityIndex;
+    private final RoomLocks roomLocks;
+    private final BookingProperties bookingProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final ReservationOutbox outbox;
+    private final ReservationMetrics reservationMetrics;
+    private final OccupancyCounters occupancyCounters;
+    private final RoomHolds roomHolds;
+    private final RoomHoldRepository roomHoldRepository;
+
+    @Override
+    public Response<CursorPage<ReservationView>> getReservations(LocalDateTime startDate, LocalDateTime endDate, RoomType roomType,
+                                                                 String userEmail, String cursor, Integer size) {
+        log.debug("Fetching reservations page");
+        ReservationCursor after = null;
+        if (cursor != null) {
+            try {
+                after = ReservationCursor.decode(cursor);
+            } catch (IllegalArgumentException e) {
+                log.warn("Invalid reservations cursor: {}", cursor);
+                return new Response<>(false, "Invalid cursor", HttpStatus.BAD_REQUEST.value(), null);
+            }
+        }
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+        Long userId = null;
+        if (userEmail != null) {
+            userId = userLookupCache.findByEmail(userEmail).map(UserView::id).orElse(null);
+            if (userId == null) {
+                return new Response<>(true, "Reservations fetched successfully", HttpStatus.OK.value(), new CursorPage<>(new ArrayList<>(), null));
+            }
+        }
+        List<ReservationRow> rows = reservationRepository.findReservationsByFilters(startDate, endDate, roomType, userId,
+                after == null ? null : after.reservationDate(), after == null ? null : after.id(),
+                PageRequest.of(0, pageSize + 1));
+
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            ReservationRow last = rows.get(pageSize - 1);
+            nextCursor = new ReservationCursor(last.reservationDate(), last.id()).encode();
+        }
+        List<ReservationView> reservations = toViews(rows);
+        log.debug("Fetched {} reservations", reservations.size());
+        return new Response<>(true, "Reservations fetched successfully", HttpStatus.OK.value(), new CursorPage<>(reservations, nextCursor));
+    }
+
+    /**
+     * Resolves the user through the lookup cache, so each reservation is read without joining users,
+     * and pages backwards through the covering index on the reservations of the user.
+     */
+    @Override
+    public Response<CursorPage<ReservationView>> getUserReservations(String userEmail, String cursor, Integer size) {
+        log.debug("Fetching reservations of a user");
+        ReservationCursor before = null;
+        if (cursor != null) {
+            try {
+                before = ReservationCursor.decode(cursor);
+            } catch (IllegalArgumentException e) {
+                log.warn("Invalid user reservations cursor: {}", cursor);
+                return new Response<>(false, "Invalid cursor", HttpStatus.BAD_REQUEST.value(), null);
+            }
+        }
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+        Optional<UserView> user = userLookupCache.findByEmail(userEmail);
+        if (user.isEmpty()) {
+            return new Response<>(false, "User not found", HttpStatus.NOT_FOUND.value(), null);
+        }
+        Long userId = user.get().id();
+        PageRequest page = PageRequest.of(0, pageSize + 1);
+        List<UserReservationRow> rows = before == null ? reservationRepository.findUserHistory(userId, page)
+                : reservationRepository.findUserHistoryBefore(userId, before.reservationDate(), before.id(), page);
+
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            UserReservationRow last = rows.get(pageSize - 1);
+            nextCursor = new ReservationCursor(last.reservationDate(), last.id()).encode();
+        }
+        Map<Long, List<RoomView>> roomsByReservation = roomsOf(rows.stream().map(UserReservationRow::id).toList());
+        List<ReservationView> reservations = rows.stream()
+                .map(row -> row.toView(user.get(), roomsByReservation.getOrDefault(row.id(), List.of())))
+                .toList();
+        log.debug("Fetched {} reservations of user ID {}", reservations.size(), userId);
+        return new Response<>(true, "Reservations fetched successfully", HttpStatus.OK.value(), new CursorPage<>(reservations, nextCursor));
+    }
 
     @Override
-    public Response<List<Reservation>> getReservations(LocalDateTime startDate, LocalDateTime endDate, RoomType roomType, String userEmail) {
-        log.info("Fetching all reservations");
-        User user = null;
+    @Transactional(readOnly = true)
+    public void streamReservations(LocalDateTime startDate, LocalDateTime endDate, RoomType roomType, String userEmail,
+                                   Consumer<ReservationView> consumer) {
+        log.info("Streaming reservations");
+        Long userId = null;
         if (userEmail != null) {
-            user = userRepository.findByEmail(userEmail).orElse(null);
-            if (user == null) {
-                return new Response<>(true, "Reservations fetched successfully", HttpStatus.OK.value(), new ArrayList<>());
+            userId = userLookupCache.findByEmail(userEmail).map(UserView::id).orElse(null);
+            if (userId == null) {
+                return;
             }
         }
-        List<Reservation> reservations = reservationRepository.findReservationsByFilters(startDate, endDate, roomType, user);
-        log.info("Fetched {} reservations", reservations.size());
-        return new Response<>(true, "Reservations fetched successfully", HttpStatus.OK.value(), reservations);
+        long count = 0;
+        List<ReservationRow> chunk = new ArrayList<>(STREAM_CHUNK_SIZE);
+        try (Stream<ReservationRow> rows = reservationRepository.streamReservationsByFilters(startDate, endDate, roomType, userId)) {
+            Iterator<ReservationRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == STREAM_CHUNK_SIZE || !iterator.hasNext()) {
+                    // Load the rooms of the whole chunk at once.
+                    toViews(chunk).forEach(consumer);
+                    count += chunk.size();
+                    chunk.clear();
+                }
+            }
+        }
+        log.info("Streamed {} reservations", count);
     }
 
     @Override
-    public Response<Reservation> getReservationById(Long id) {
-        log.info("Fetching reservation with ID {}", id);
-        Optional<Reservation> reservation = reservationRepository.findById(id);
+    public Response<ReservationView> getReservationById(Long id) {
+        log.debug("Fetching reservation with ID {}", id);
+        Optional<ReservationRow> reservation = reservationRepository.findRowById(id);
         if (reservation.isPresent()) {
-            log.info("Reservation found with ID {}", id);
-            return new Response<>(true, "Reservation found", HttpStatus.OK.value(), reservation.get());
+            log.debug("Reservation found with ID {}", id);
+            return new Response<>(true, "Reservation found", HttpStatus.OK.value(), toViews(List.of(reservation.get())).get(0));
         } else {
             log.warn("Reservation not found with ID {}", id);
             return new Response<>(false, "Reservation not found", HttpStatus.NOT_FOUND.value(), null);
@@ -65,149 +215,367 @@ public class ReservationServiceImpl implements ReservationService {
     }
 
     @Override
-    @Transactional
-    public Response<Reservation> saveReservation(ReservationDTO reservationDto) {
+    public Response<ReservationView> saveReservation(ReservationDTO reservationDto) {
+        log.debug("Starting reservation creation for user: {}", reservationDto.getUserEmail());
+        Response<ReservationView> response = executeBooking(roomIdsOf(reservationDto), () -> createReservation(reservationDto));
+        if (response.getSuccess()) {
+            reservationMetrics.booking(BookingOutcome.CREATED);
+            logBooking("Reservation created", response.getData());
+        }
+        return response;
+    }
 
-        log.info("Starting reservation creation for user: {}", reservationDto.getUserEmail());
-        Response<Reservation> reservationResponse = validateReservation(reservationDto);
-        if (!reservationResponse.getSuccess()) {
-            return reservationResponse;
+    @Override
+    public Response<ReservationView> updateReservation(Long id, ReservationDTO reservationDto) {
+        log.debug("Updating reservation with ID {}", id);
+        Set<Long> roomIds = new HashSet<>(roomIdsOf(reservationDto));
+        roomIds.addAll(availabilityIndex.getRoomIds(id));
+        Response<ReservationView> response = executeBooking(roomIds, () -> modifyReservation(id, reservationDto));
+        if (response.getSuccess()) {
+            reservationMetrics.booking(BookingOutcome.UPDATED);
+            logBooking("Reservation updated", response.getData());
         }
-        Reservation reservation = reservationResponse.getData();
+        return response;
+    }
 
+    @Override
+    public Response<Void> deleteReservation(Long id) {
+        log.debug("Deleting reservation with ID {}", id);
+        return executeBooking(availabilityIndex.getRoomIds(id), () -> removeReservation(id));
+    }
 
+    @Override
+    public Response<List<ReservationImportResult>> importReservations(Iterator<ReservationDTO> reservations) {
+        List<ReservationImportResult> results = new ArrayList<>();
+        List<ReservationDTO> chunk = new ArrayList<>(IMPORT_CHUNK_SIZE);
+        while (reservations.hasNext()) {
+            chunk.add(reservations.next());
+            if (chunk.size() == IMPORT_CHUNK_SIZE || !reservations.hasNext()) {
+                results.addAll(importChunk(results.size(), chunk));
+                chunk.clear();
+            }
+        }
+        long created = results.stream().filter(ReservationImportResult::success).count();
+        log.atInfo()
+                .setMessage("Reservations imported")
+                .addKeyValue("created", created)
+                .addKeyValue("rejected", results.size() - created)
+                .log();
+        return new Response<>(true, "Reservations imported", HttpStatus.OK.value(), results);
+    }
+
+    /**
+     * Imports a chunk of reservations in a single transaction, holding the locks of all their rooms.
+     * A single reservation conflicting with a concurrent change rolls back the whole chunk, so a chunk that keeps
+     * failing is split in halves imported on their own, down to single reservations, before reporting a conflict.
+     */
+    private List<ReservationImportResult> importChunk(int offset, List<ReservationDTO> chunk) {
+        Set<Long> roomIds = chunk.stream()
+                .flatMap(reservationDto -> roomIdsOf(reservationDto).stream())
+                .collect(Collectors.toSet());
+        Optional<Response<List<ReservationImportResult>>> response = attemptBooking(roomIds, () -> importBookings(offset, chunk, roomIds));
+        if (response.isEmpty()) {
+            if (chunk.size() == 1) {
+                Response<Void> failure = conflict();
+                return List.of(new ReservationImportResult(offset, false, failure.getStatusCode(), failure.getMessage(), null));
+            }
+            int half = chunk.size() / 2;
+            log.debug("Import chunk of {} reservations kept conflicting, importing its halves separately", chunk.size());
+            List<ReservationImportResult> results = new ArrayList<>(importChunk(offset, chunk.subList(0, half)));
+            results.addAll(importChunk(offset + half, chunk.subList(half, chunk.size())));
+            return results;
+        }
+        response.get().getData().stream()
+                .filter(ReservationImportResult::success)
+                .forEach(result -> reservationMetrics.booking(BookingOutcome.CREATED));
+        return response.get().getData();
+    }
+
+    /**
+     * Validates and books a chunk of reservations in one pass.
+     * All rooms are loaded at once, from the second-level cache where possible. Accepted reservations and their
+     * stays are persisted as they are validated and kept aside, so later reservations of the chunk see those stays
+     * as taken and the inserts go to the database in JDBC batches on flush. Reservations naming a hold are checked
+     * against it and convert it, as single bookings do.
+     */
+    private Response<List<ReservationImportResult>> importBookings(int offset, List<ReservationDTO> chunk, Set<Long> roomIds) {
+        Map<Long, Room> roomsById = roomRepository.loadAllById(roomIds).stream()
+                .collect(Collectors.toMap(Room::getId, Function.identity()));
+        availabilityIndex.track(roomsById.values());
+        LocalDateTime bookingDate = LocalDateTime.now();
+
+        List<ReservationImportResult> results = new ArrayList<>(chunk.size());
+        Map<Long, List<RoomStay>> chunkStays = new HashMap<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            ReservationDTO reservationDto = chunk.get(i);
+            Response<UserView> request = validateRequest(reservationDto, bookingDate);
+            if (request.getSuccess() && reservationDto.getHoldId() != null) {
+                Response<Void> hold = validateHold(reservationDto, request.getData());
+                request = hold.getSuccess() ? request : rejected(hold);
+            }
+            Response<Booking> validation = !request.getSuccess() ? rejected(request) : validateRooms(reservationDto, null,
+                    request.getData(), bookingDate, reservationDto.getRoomIds().stream()
+                            .map(roomsById::get)
+                            .filter(Objects::nonNull)
+                            .toList(),
+                    room -> chunkStays.getOrDefault(room.getId(), List.of()).stream()
+                            .anyMatch(stay -> stay.overlaps(reservationDto.getReservationDate(), checkOutDateOf(reservationDto)))
+                            || roomHolds.isHeld(room.getId(), reservationDto.getReservationDate(), checkOutDateOf(reservationDto),
+                                    reservationDto.getHoldId()));
+            if (!validation.getSuccess()) {
+                results.add(new ReservationImportResult(offset + i, false, validation.getStatusCode(), validation.getMessage(), null));
+                continue;
+            }
+            Booking booking = validation.getData();
+
+            Reservation reservation = reservationRepository.save(Reservation.builder()
+                    .user(userRepository.getReferenceById(booking.user().id()))
+                    .bookingDate(booking.bookingDate())
+                    .reservationDate(booking.reservationDate())
+                    .checkOutDate(booking.checkOutDate())
+                    .build());
+            List<RoomStay> stays = roomStayRepository.saveAll(booking.stays(reservation));
+            for (RoomStay stay : stays) {
+                chunkStays.computeIfAbsent(stay.getRoom().getId(), roomId -> new ArrayList<>()).add(stay);
+            }
+            reserveInIndex(reservation.getId(), reservationDto.getRoomIds(), booking.reservationDate(), booking.checkOutDate());
+            countStays(List.of(), rowsOf(stays));
+            convertHold(reservationDto.getHoldId());
+            outbox.record(ReservationEventType.RESERVATION_CREATED, reservation.getId(),
+                    booking.toView(reservation.getId(), booking.bookingDate(), booking.user()));
+            results.add(new ReservationImportResult(offset + i, true, HttpStatus.CREATED.value(),
+                    "Reservation saved successfully", reservation.getId()));
+        }
+        flushStays();
+        return new Response<>(true, "", HttpStatus.OK.value(), results);
+    }
+
+    private Response<ReservationView> createReservation(ReservationDTO reservationDto) {
+        Response<Booking> validation = validateReservation(reservationDto, null);
+        if (!validation.getSuccess()) {
+            return rejected(validation);
+        }
+        Booking booking = validation.getData();
+
+        Reservation reservation = Reservation.builder()
+                .user(userRepository.getReferenceById(booking.user().id()))
+                .bookingDate(booking.bookingDate())
+                .reservationDate(booking.reservationDate())
+                .checkOutDate(booking.checkOutDate())
+                .build();
         Reservation savedReservation = reservationRepository.save(reservation);
 
-        savedReservation.getRooms().forEach(room -> {
-            room.setStatus(RoomStatus.RESERVED);
-            room.setReservation(Reservation.builder().id(reservation.getId()).build());
-            roomRepository.save(room);
-            log.info("Room ID: {} marked as reserved.", room.getId());
-        });
+        List<RoomStay> stays = roomStayRepository.saveAll(booking.stays(savedReservation));
+        flushStays();
+        reserveInIndex(savedReservation.getId(), reservationDto.getRoomIds(), booking.reservationDate(), booking.checkOutDate());
+        countStays(List.of(), rowsOf(stays));
+        convertHold(reservationDto.getHoldId());
 
-        log.info("Reservation saved with ID {}", savedReservation.getId());
-        return new Response<>(true, "Reservation saved successfully", HttpStatus.CREATED.value(), savedReservation);
+        ReservationView view = booking.toView(savedReservation.getId(), booking.bookingDate(), booking.user());
+        outbox.record(ReservationEventType.RESERVATION_CREATED, savedReservation.getId(), view);
+        return new Response<>(true, "Reservation saved successfully", HttpStatus.CREATED.value(), view);
     }
 
-    @Override
-    public Response<Reservation> updateReservation(Long id, ReservationDTO reservationDto) {
-        log.info("Updating reservation with ID {}", id);
+    private Response<ReservationView> modifyReservation(Long id, ReservationDTO reservationDto) {
         Optional<Reservation> reservationOpt = reservationRepository.findById(id);
         if (reservationOpt.isEmpty()) {
             log.warn("Reservation not found with ID {}", id);
             return new Response<>(false, "Reservation not found", HttpStatus.NOT_FOUND.value(), null);
         }
         Reservation reservation = reservationOpt.get();
-        reservation.getRooms().forEach(room -> {
-            room.setStatus(RoomStatus.AVAILABLE);
-            room.setReservation(null);
-            roomRepository.save(room);
-            log.info("Room ID: {} marked as available.", room.getId());
-        });
 
-        Response<Reservation> reservationResponse = validateReservation(reservationDto);
-        if (!reservationResponse.getSuccess()) {
-            reservation.getRooms().forEach(room -> {
-                room.setStatus(RoomStatus.RESERVED);
-                room.setReservation(Reservation.builder().id(id).build());
-                roomRepository.save(room);
-                log.info("Room ID: {} marked as reserved.", room.getId());
-            });
-            return reservationResponse;
-        }
-        Reservation validatedReservation = reservationResponse.getData();
-
-        List<Room> mutableRooms = new ArrayList<>(reservation.getRooms());
-        mutableRooms.clear();
-        reservation.setRooms(mutableRooms);
-        reservationRepository.save(reservation);
-
-        reservation.setReservationDate(validatedReservation.getReservationDate());
-        reservation.setRooms(new ArrayList<>(validatedReservation.getRooms()));
-
-
-        Reservation updatedReservation = reservationRepository.save(reservation);
-        updatedReservation.getRooms().forEach(room -> {
-            room.setStatus(RoomStatus.RESERVED);
-            room.setReservation(Reservation.builder().id(id).build());
-            roomRepository.save(room);
-            log.info("Room ID: {} marked as reserved.", room.getId());
-        });
-        log.info("Reservation updated with ID {}", id);
-        return new Response<>(true, "Reservation updated successfully", HttpStatus.OK.value(), updatedReservation);
+        Response<Booking> validation = validateReservation(reservationDto, id);
+        if (!validation.getSuccess()) {
+            return rejected(validation);
+        }
+        Booking booking = validation.getData();
+
+        // Read the owner before the bulk statements below detach the reservation.
+        UserView owner = reservation.getUser() == null ? null : UserView.from(reservation.getUser());
+        int updatedReservations = reservationRepository.updateStay(
+                id, reservation.getVersion(), booking.reservationDate(), booking.checkOutDate());
+        if (updatedReservations == 0) {
+            throw new BookingConflictException("Reservation " + id + " was modified concurrently");
+        }
+
+        // The old stays are deleted right away, so the new ones never overlap them when flushed.
+        List<RoomStayRow> previousStays = roomStayRepository.findRowsByReservationId(id);
+        int releasedRooms = roomStayRepository.deleteByReservationId(id);
+        List<RoomStay> stays = roomStayRepository.saveAll(booking.stays(reservationRepository.getReferenceById(id)));
+        flushStays();
+        log.debug("{} stays replaced by {} for reservation ID {}", releasedRooms, booking.rooms().size(), id);
+        releaseInIndex(id);
+        reserveInIndex(id, reservationDto.getRoomIds(), booking.reservationDate(), booking.checkOutDate());
+        countStays(previousStays, rowsOf(stays));
+        convertHold(reservationDto.getHoldId());
+
+        ReservationView view = booking.toView(id, reservation.getBookingDate(), owner);
+        outbox.record(ReservationEventType.RESERVATION_UPDATED, id, view);
+        return new Response<>(true, "Reservation updated successfully", HttpStatus.OK.value(), view);
 
     }
 
-    @Override
-    @Transactional
-    public Response<Void> deleteReservation(Long id) {
-        log.info("Deleting reservation with ID {}", id);
-        Optional<Reservation> reservationOpt = reservationRepository.findById(id);
-        if (reservationOpt.isEmpty()) {
+    private Response<Void> removeReservation(Long id) {
+        if (!reservationRepository.existsById(id)) {
             log.warn("Reservation not found with ID {}", id);
             return new Response<>(false, "Reservation not found", HttpStatus.NOT_FOUND.value(), null);
         }
-        Reservation reservation = reservationOpt.get();
-        reservation.getRooms().forEach(room -> {
-            room.setStatus(RoomStatus.AVAILABLE);
-            room.setReservation(null);
-            roomRepository.save(room);
-            log.info("Room ID: {} marked as available.", room.getId());
-        });
 
-        reservation.getRooms().clear();
-        reservationRepository.save(reservation);
-        log.info("Rooms association cleared for reservation ID: {}", id);
+        List<RoomStayRow> previousStays = roomStayRepository.findRowsByReservationId(id);
+        int releasedRooms = roomStayRepository.deleteByReservationId(id);
+        releaseInIndex(id);
+        countStays(previousStays, List.of());
 
         reservationRepository.deleteById(id);
-        log.info("Reservation deleted with ID {}", id);
+        outbox.record(ReservationEventType.RESERVATION_DELETED, id, Map.of("id", id));
+        log.atInfo()
+                .setMessage("Reservation deleted")
+                .addKeyValue("reservationId", id)
+                .addKeyValue("releasedRooms", releasedRooms)
+                .log();
         return new Response<>(true, "Reservation deleted successfully", HttpStatus.OK.value(), null);
 
     }
 
-    private Response<Reservation> validateReservation(ReservationDTO reservationDto) {
+    /**
+     * Validates a reservation request.
+     * The user is resolved through the user lookup cache and the requested rooms are loaded through the
+     * second-level cache. Missing and unavailable rooms are derived from that result set, with stay conflicts
+     * answered by the availability index and rooms held by others answered by the hold registry.
+     *
+     * @param reservationDto the reservation request.
+     * @param reservationId the ID of the reservation being updated, whose own stays are ignored, or null.
+     * @return a successful {@link Response} with the validated booking, or the validation error.
+     */
+    private Response<Booking> validateReservation(ReservationDTO reservationDto, Long reservationId) {
 
         LocalDateTime bookingDate = LocalDateTime.now();
 
+        Response<UserView> request = validateRequest(reservationDto, bookingDate);
+        if (!request.getSuccess()) {
+            return rejected(request);
+        }
+
+        if (reservationDto.getHoldId() != null) {
+            Response<Void> hold = validateHold(reservationDto, request.getData());
+            if (!hold.getSuccess()) {
+                return rejected(hold);
+            }
+        }
+
+        List<Room> rooms = roomRepository.loadAllById(reservationDto.getRoomIds());
+        availabilityIndex.track(rooms);
+
+        LocalDateTime checkOutDate = checkOutDateOf(reservationDto);
+        return validateRooms(reservationDto, reservationId, request.getData(), bookingDate, rooms,
+                room -> roomHolds.isHeld(room.getId(), reservationDto.getReservationDate(), checkOutDate, reservationDto.getHoldId()));
+    }
+
+    /**
+     * Validates that the hold converted by a reservation request is still active and covers exactly the
+     * requested user, rooms and stay.
+     *
+     * @param reservationDto the reservation request.
+     * @param user the user making the reservation.
+     * @return a successful {@link Response}, or the validation error.
+     */
+    private Response<Void> validateHold(ReservationDTO reservationDto, UserView user) {
+        Optional<ActiveHold> holdOpt = roomHolds.get(reservationDto.getHoldId());
+        if (holdOpt.isEmpty()) {
+            log.warn("Hold not found or expired with ID {}", reservationDto.getHoldId());
+            countRejection(BookingOutcome.REJECTED_HOLD);
+            return new Response<>(false, "Hold not found or expired", HttpStatus.GONE.value(), null);
+        }
+        ActiveHold hold = holdOpt.get();
+        if (!hold.userId().equals(user.id())
+                || !hold.roomIds().equals(Set.copyOf(reservationDto.getRoomIds()))
+                || !hold.reservationDate().equals(reservationDto.getReservationDate())
+                || !hold.checkOutDate().equals(checkOutDateOf(reservationDto))) {
+            log.warn("Reservation does not match hold with ID {}", hold.id());
+            countRejection(BookingOutcome.REJECTED_HOLD);
+            return new Response<>(false, "The reservation does not match the hold", HttpStatus.CONFLICT.value(), null);
+        }
+        return new Response<>(true, "", 0, null);
+    }
+
+    /**
+     * Validates the fields of a reservation request and resolves its user.
+     *
+     * @param reservationDto the reservation request.
+     * @param bookingDate the date when the request was made.
+     * @return a successful {@link Response} with the user making the reservation, or the validation error.
+     */
+    private Response<UserView> validateRequest(ReservationDTO reservationDto, LocalDateTime bookingDate) {
+        if (reservationDto == null) {
+            log.warn("Reservation is missing");
+            countRejection(BookingOutcome.REJECTED_INVALID);
+            return new Response<>(false, "Reservation is required", HttpStatus.BAD_REQUEST.value(), null);
+        }
         if (reservationDto.getReservationDate() == null) {
-            log.error("Reservation date is missing for reservation");
+            log.warn("Reservation date is missing for reservation");
+            countRejection(BookingOutcome.REJECTED_INVALID);
             return new Response<>(false, "Reservation date is required", HttpStatus.BAD_REQUEST.value(), null);
         }
         if (bookingDate.isAfter(reservationDto.getReservationDate())) {
-            log.error("Reservation date is before booking date for reservation");
+            log.warn("Reservation date is before booking date for reservation");
+            countRejection(BookingOutcome.REJECTED_INVALID);
             return new Response<>(false, "Reservation date must be after booking date", HttpStatus.BAD_REQUEST.value(), null);
         }
+        if (!checkOutDateOf(reservationDto).isAfter(reservationDto.getReservationDate())) {
+            log.warn("Check-out date is not after reservation date for reservation");
+            countRejection(BookingOutcome.REJECTED_INVALID);
+            return new Response<>(false, "Check-out date must be after reservation date", HttpStatus.BAD_REQUEST.value(), null);
+        }
         if (reservationDto.getRoomIds() == null || reservationDto.getRoomIds().isEmpty()) {
-            log.error("Rooms can not be empty");
+            log.warn("Rooms can not be empty");
+            countRejection(BookingOutcome.REJECTED_INVALID);
             return new Response<>(false, "Rooms can not be empty", HttpStatus.BAD_REQUEST.value(), null);
         }
         if (reservationDto.getUserEmail() == null) {
-            log.error("User is required");
+            log.warn("User is required");
+            countRejection(BookingOutcome.REJECTED_INVALID);
             return new Response<>(false, "User is required", HttpStatus.BAD_REQUEST.value(), null);
         }
 
-        Optional<User> userOpt = userRepository.findByEmail(reservationDto.getUserEmail());
+        Optional<UserView> userOpt = userLookupCache.findByEmail(reservationDto.getUserEmail());
         if (userOpt.isEmpty()) {
-            log.error("User not found with Email: {}", reservationDto.getUserEmail());
+            log.warn("User not found with Email: {}", reservationDto.getUserEmail());
+            countRejection(BookingOutcome.USER_NOT_FOUND);
             return new Response<>(false, "User not found", HttpStatus.NOT_FOUND.value(), null);
         }
-        User user = userOpt.get();
-
-        Set<Optional<Room>> rooms = reservationDto.getRoomIds().stream()
-                .map(roomRepository::findById)
-                .collect(Collectors.toSet());
+        return new Response<>(true, "", 0, userOpt.get());
+    }
 
-        if (rooms.stream().anyMatch(Optional::isEmpty)) {
-            log.error("One or more rooms do not exist. Room IDs: {}",
-                    reservationDto.getRoomIds().stream()
-                            .filter(roomId -> roomRepository.findById(roomId).isEmpty())
-                            .collect(Collectors.toList()));
+    /**
+     * Validates that the requested rooms exist and are free for the whole stay.
+     *
+     * @param reservationDto the reservation request.
+     * @param reservationId the ID of the reservation being updated, whose own stays are ignored, or null.
+     * @param user the user making the reservation.
+     * @param bookingDate the date when the request was made.
+     * @param rooms the requested rooms that exist.
+     * @param taken rooms taken by bookings not yet in the availability index.
+     * @return a successful {@link Response} with the validated booking, or the validation error.
+     */
+    private Response<Booking> validateRooms(ReservationDTO reservationDto, Long reservationId, UserView user,
+                                            LocalDateTime bookingDate, List<Room> rooms, Predicate<Room> taken) {
+        if (rooms.size() < reservationDto.getRoomIds().size()) {
+            Set<Long> foundRoomIds = rooms.stream().map(Room::getId).collect(Collectors.toSet());
+            log.atWarn()
+                    .setMessage("One or more rooms do not exist")
+                    .addKeyValue("missingRoomIds", () -> reservationDto.getRoomIds().stream()
+                            .filter(roomId -> !foundRoomIds.contains(roomId))
+                            .toList())
+                    .log();
+            countRejection(BookingOutcome.REJECTED_MISSING_ROOM);
             return new Response<>(false, "One or more rooms do not exist", HttpStatus.NOT_FOUND.value(), null);
         }
 
+        LocalDateTime checkOutDate = checkOutDateOf(reservationDto);
         List<Room> unavailableRooms = rooms.stream()
-                .map(Optional::get)
-                .filter(room -> !room.getStatus().equals(RoomStatus.AVAILABLE))
+                .filter(room -> room.getStatus() == null || !room.getStatus().isBookable()
+                        || !availabilityIndex.isAvailable(room.getId(), reservationDto.getReservationDate(), checkOutDate, reservationId)
+                        || taken.test(room))
                 .toList();
 
         if (!unavailableRooms.isEmpty()) {
@@ -215,17 +583,211 @@ public class ReservationServiceImpl implements ReservationService {
                     .map(Room::getRoomNumber)
                     .map(String::valueOf)
                     .collect(Collectors.joining(", "));
-            log.warn("The following rooms are not available: {}", unavailableRoomNumbers);
+            log.atWarn()
+                    .setMessage("Rooms not available")
+                    .addKeyValue("roomNumbers", unavailableRoomNumbers)
+                    .log();
+            countRejection(BookingOutcome.REJECTED_UNAVAILABLE);
             return new Response<>(false, "The following rooms are not available: " + unavailableRoomNumbers, HttpStatus.BAD_REQUEST.value(), null);
         }
 
-        Reservation reservation = Reservation.builder()
-                .user(user)
-                .rooms(rooms.stream().map(Optional::get).toList())
-                .bookingDate(bookingDate)
-                .reservationDate(reservationDto.getReservationDate())
-                .build();
+        return new Response<>(true, "", 0, new Booking(user, rooms, bookingDate, reservationDto.getReservationDate(), checkOutDate));
+    }
+
+    /**
+     * Assembles reservation read models, loading the rooms of all the given reservations in one query.
+     *
+     * @param rows the reservation projections.
+     * @return the reservation read models, in the same order.
+     */
+    private List<ReservationView> toViews(List<ReservationRow> rows) {
+        if (rows.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Long, List<RoomView>> roomsByReservation = roomsOf(rows.stream().map(ReservationRow::id).toList());
+        return rows.stream()
+                .map(row -> row.toView(roomsByReservation.getOrDefault(row.id(), List.of())))
+                .toList();
+    }
+
+    /**
+     * Loads the rooms of the given reservations in a single query, grouped by reservation.
+     */
+    private Map<Long, List<RoomView>> roomsOf(List<Long> reservationIds) {
+        if (reservationIds.isEmpty()) {
+            return Map.of();
+        }
+        return reservationRepository.findRoomRows(reservationIds)
+                .stream()
+                .collect(Collectors.groupingBy(ReservationRoomRow::reservationId,
+                        Collectors.mapping(ReservationRoomRow::toView, Collectors.toList())));
+    }
+
+    /**
+     * Runs a booking in its own transaction while holding the locks of the rooms it touches.
+     * Bookings that lose a race against a concurrent change of the same rooms, detected through
+     * optimistic locking, are rolled back and retried up to the configured number of attempts.
+     *
+     * @param roomIds the IDs of the rooms touched by the booking.
+     * @param booking the booking to run.
+     * @return the result of the booking, or a conflict response once all attempts failed.
+     */
+    private <T> Response<T> executeBooking(Collection<Long> roomIds, Supplier<Response<T>> booking) {
+        return attemptBooking(roomIds, booking).orElseGet(() -> conflict());
+    }
+
+    /**
+     * Runs a booking like {@link #executeBooking}, leaving the outcome of a booking that kept conflicting to the caller.
+     *
+     * @param roomIds the IDs of the rooms touched by the booking.
+     * @param booking the booking to run.
+     * @return the result of the booking, or empty once all attempts failed.
+     */
+    private <T> Optional<Response<T>> attemptBooking(Collection<Long> roomIds, Supplier<Response<T>> booking) {
+        for (int attempt = 1; ; attempt++) {
+            try (RoomLocks.Held ignored = roomLocks.lock(roomIds)) {
+                return Optional.ofNullable(transactionTemplate.execute(status -> booking.get()));
+            } catch (OptimisticLockingFailureException | BookingConflictException e) {
+                if (attempt >= bookingProperties.maxAttempts()) {
+                    log.warn("Booking on rooms {} failed after {} attempts: {}", roomIds, attempt, e.getMessage());
+                    return Optional.empty();
+                }
+                log.debug("Booking on rooms {} hit a concurrent change, retrying (attempt {})", roomIds, attempt);
+            }
+        }
+    }
+
+    private <T> Response<T> conflict() {
+        reservationMetrics.booking(BookingOutcome.CONFLICT);
+        return new Response<>(false, "The rooms were modified concurrently, please try again", HttpStatus.CONFLICT.value(), null);
+    }
 
-        return new Response<>(true, "", 0, reservation);
+    /**
+     * Sends the pending stays to the database. A stay overlapping one booked concurrently, e.g. by another
+     * instance, violates the exclusion constraint on stays and fails the booking as a conflict.
+     */
+    private void flushStays() {
+        try {
+            roomStayRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            throw new BookingConflictException("One or more rooms were reserved concurrently", e);
+        }
+    }
+
+    private Set<Long> roomIdsOf(ReservationDTO reservationDto) {
+        return reservationDto == null || reservationDto.getRoomIds() == null ? Set.of() : reservationDto.getRoomIds();
+    }
+
+    /**
+     * Gets the check-out date of a request with a reservation date, a one-night stay when none is given.
+     */
+    private LocalDateTime checkOutDateOf(ReservationDTO reservationDto) {
+        return reservationDto.getCheckOutDate() != null ? reservationDto.getCheckOutDate()
+                : reservationDto.getReservationDate().plusDays(1);
+    }
+
+    /**
+     * Logs one summary event for a committed booking, whatever the number of rooms it holds.
+     */
+    private void logBooking(String message, ReservationView reservation) {
+        log.atInfo()
+                .setMessage(message)
+                .addKeyValue("reservationId", reservation.id())
+                .addKeyValue("userId", () -> reservation.user() == null ? null : reservation.user().id())
+                .addKeyValue("reservationDate", reservation.reservationDate())
+                .addKeyValue("checkOutDate", reservation.checkOutDate())
+                .addKeyValue("rooms", reservation.rooms().size())
+                .log();
+    }
+
+    private <T> Response<T> rejected(Response<?> validation) {
+        return new Response<>(false, validation.getMessage(), validation.getStatusCode(), null);
+    }
+
+    private void reserveInIndex(Long reservationId, Collection<Long> roomIds, LocalDateTime from, LocalDateTime to) {
+        List<Long> reservedRoomIds = List.copyOf(roomIds);
+        afterCommit(() -> availabilityIndex.reserve(reservationId, reservedRoomIds, from, to));
+    }
+
+    private void releaseInIndex(Long reservationId) {
+        afterCommit(() -> availabilityIndex.release(reservationId));
+    }
+
+    private List<RoomStayRow> rowsOf(List<RoomStay> stays) {
+        return stays.stream().map(RoomStayRow::from).toList();
+    }
+
+    /**
+     * Counts a rejected booking once its transaction settles, so attempts rolled back and retried are not counted again.
+     */
+    private void countRejection(BookingOutcome outcome) {
+        afterCommit(() -> reservationMetrics.booking(outcome));
+    }
+
+    private void countStays(List<RoomStayRow> removedStays, List<RoomStayRow> addedStays) {
+        afterCommit(() -> {
+            occupancyCounters.remove(removedStays);
+            occupancyCounters.add(addedStays);
+        });
+    }
+
+    /**
+     * Deletes the hold converted by a reservation with the reservation, and stops keeping its rooms once
+     * the reservation is committed, when the availability index has taken over.
+     */
+    private void convertHold(Long holdId) {
+        if (holdId == null) {
+            return;
+        }
+        roomHoldRepository.deleteByIdIn(List.of(holdId));
+        afterCommit(() -> roomHolds.remove(holdId));
+    }
+
+    /**
+     * Runs an action once the current transaction commits, or immediately if there is none,
+     * so the availability index and the occupancy counters never reflect changes that were rolled back.
+     */
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * A validated reservation request, with its user and rooms resolved.
+     *
+     * @param user the user making the reservation.
+     * @param rooms the requested rooms.
+     * @param bookingDate the date when the request was made.
+     * @param reservationDate the date when the reservation is scheduled, i.e. the check-in date.
+     * @param checkOutDate the check-out date (exclusive).
+     */
+    private record Booking(UserView user, List<Room> rooms, LocalDateTime bookingDate, LocalDateTime reservationDate,
+                           LocalDateTime checkOutDate) {
+
+        List<RoomStay> stays(Reservation reservation) {
+            return rooms.stream()
+                    .map(room -> RoomStay.builder()
+                            .reservation(reservation)
+                            .room(room)
+                            .checkIn(reservationDate)
+                            .checkOut(checkOutDate)
+                            .build())
+                    .toList();
+        }
+
+        ReservationView toView(Long id, LocalDateTime bookingDate, UserView user) {
+            List<RoomView> reservedRooms = rooms.stream()
+                    .map(room -> new RoomView(room.getId(), room.getRoomNumber(), room.getType(), room.getStatus(), room.getPrice()))
+                    .toList();
+            return new ReservationView(id, bookingDate, reservationDate, checkOutDate, user, reservedRooms);
+        }
     }
 }
@@ -1,8 +1,11 @@
 package com.linktic.reservation_system_api.service;
 
 import com.linktic.reservation_system_api.dto.Response;
-import com.linktic.reservation_system_api.entity.Room;
+import com.linktic.reservation_system_api.dto.RoomView;
+import com.linktic.reservation_system_api.util.RoomType;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -15,5 +18,18 @@ public interface RoomService {
      *
      * @return an {@link Response} containing the list of Room objects.
      */
-    public Response<List<Room>> getAllRooms();
+    public Response<List<RoomView>> getAllRooms();
+
+    /**
+     * Searches the rooms that can be booked for a date range, optionally of one type and within a price range.
+     *
+     * @param startDate the start of the stay.
+     * @param endDate the end of the stay (exclusive).
+     * @param roomType the type of room, or null for any type.
+     * @param minPrice the minimum price per night (inclusive), or null for no lower bound.
+     * @param maxPrice the maximum price per night (inclusive), or null for no upper bound.
+     * @return an {@link Response} containing the available rooms ordered by price, or a validation error.
+     */
+    Response<List<RoomView>> searchAvailableRooms(LocalDateTime startDate, LocalDateTime endDate, RoomType roomType,
+                                                  BigDecimal minPrice, BigDecimal maxPrice);
 }
@@ -1,27 +1,75 @@
 package com.linktic.reservation_system_api.service;
 
+import com.linktic.reservation_system_api.availability.RoomAvailabilityIndex;
+import com.linktic.reservation_system_api.cache.RoomCatalogCache;
 import com.linktic.reservation_system_api.dto.Response;
-import com.linktic.reservation_system_api.entity.Room;
-import com.linktic.reservation_system_api.repository.RoomRepository;
+import com.linktic.reservation_system_api.dto.RoomView;
+import com.linktic.reservation_system_api.hold.RoomHolds;
+import com.linktic.reservation_system_api.util.RoomType;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 @RequiredArgsConstructor
 @Slf4j
 @Service
+@Timed(value = "room.service", description = "Room service method execution")
 public class RoomServiceImpl implements RoomService{
 
-    private final RoomRepository roomRepository;
+    private static final Comparator<RoomView> PRICE_ORDER = Comparator
+            .comparing(RoomView::price, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(RoomView::id);
+
+    private final RoomCatalogCache roomCatalogCache;
+    private final RoomAvailabilityIndex availabilityIndex;
+    private final RoomHolds roomHolds;
 
     @Override
-    public Response<List<Room>> getAllRooms() {
-        log.info("Fetching all rooms");
-        List<Room> rooms = roomRepository.findAll();
-        log.info("Fetched {} rooms", rooms.size());
+    public Response<List<RoomView>> getAllRooms() {
+        log.debug("Fetching all rooms");
+        List<RoomView> rooms = roomCatalogCache.getAll();
+        log.debug("Fetched {} rooms", rooms.size());
         return new Response<>(true, "Rooms fetched successfully", HttpStatus.OK.value(), rooms);
     }
+
+    /**
+     * Answers the search from memory: the catalog narrows the rooms by type and price with a binary search,
+     * and the availability index checks each remaining room's stays; rooms held by a checkout in progress are left out.
+     */
+    @Override
+    public Response<List<RoomView>> searchAvailableRooms(LocalDateTime startDate, LocalDateTime endDate, RoomType roomType,
+                                                         BigDecimal minPrice, BigDecimal maxPrice) {
+        if (startDate == null || endDate == null) {
+            return new Response<>(false, "Start and end dates are required", HttpStatus.BAD_REQUEST.value(), null);
+        }
+        if (!startDate.isBefore(endDate)) {
+            return new Response<>(false, "Start date must be before end date", HttpStatus.BAD_REQUEST.value(), null);
+        }
+        if (minPrice != null && maxPrice != null && minPrice.compareTo(maxPrice) > 0) {
+            return new Response<>(false, "Minimum price must not exceed maximum price", HttpStatus.BAD_REQUEST.value(), null);
+        }
+
+        List<RoomView> rooms = new ArrayList<>();
+        for (RoomType type : roomType == null ? RoomType.values() : new RoomType[]{roomType}) {
+            for (RoomView room : roomCatalogCache.findByTypeAndPrice(type, minPrice, maxPrice)) {
+                if (room.status() != null && room.status().isBookable() && availabilityIndex.isFree(room.id(), startDate, endDate)
+                        && !roomHolds.isHeld(room.id(), startDate, endDate, null)) {
+                    rooms.add(room);
+                }
+            }
+        }
+        if (roomType == null) {
+            rooms.sort(PRICE_ORDER);
+        }
+        log.debug("Found {} available rooms", rooms.size());
+        return new Response<>(true, "Available rooms fetched successfully", HttpStatus.OK.value(), rooms);
+    }
 }
@@ -0,0 +1,29 @@
+package com.linktic.reservation_system_api.util;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * Size of the periods analytics are grouped by.
+ */
+public enum Granularity {
+    /**
+     * One period per day.
+     */
+    DAY,
+    /**
+     * One period per ISO week, starting on Monday.
+     */
+    WEEK;
+
+    /**
+     * Gets the first day of the period a day belongs to.
+     *
+     * @param day the day.
+     * @return the start of its period.
+     */
+    public LocalDate periodStart(LocalDate day) {
+        return this == DAY ? day : day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+}
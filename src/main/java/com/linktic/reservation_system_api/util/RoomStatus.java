@@ -1,8 +1,19 @@
 package com.linktic.reservation_system_api.util;
 
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * Enum representing the possible status values for a room.
- * The status indicates the current availability and state of the room.
+ * The status indicates the current availability and state of the room, and only changes along
+ * the transitions allowed by {@link #canTransitionTo(RoomStatus)}:
+ * <pre>
+ * AVAILABLE -> RESERVED -> OCCUPIED -> CLEANING -> AVAILABLE
+ * </pre>
+ * plus skipping RESERVED when a guest checks in right away, releasing a reserved room whose stay was
+ * cancelled, and taking a room that is not occupied in and out of maintenance.
  */
 public enum RoomStatus {
     /**
@@ -24,5 +35,33 @@ public enum RoomStatus {
     /**
      * RESERVED indicates that the room has been booked but is not yet occupied.
      */
-    RESERVED
+    RESERVED;
+
+    private static final Map<RoomStatus, Set<RoomStatus>> TRANSITIONS = new EnumMap<>(Map.of(
+            AVAILABLE, EnumSet.of(RESERVED, OCCUPIED, MAINTENANCE),
+            RESERVED, EnumSet.of(OCCUPIED, AVAILABLE, MAINTENANCE),
+            OCCUPIED, EnumSet.of(CLEANING),
+            CLEANING, EnumSet.of(AVAILABLE, MAINTENANCE),
+            MAINTENANCE, EnumSet.of(CLEANING, AVAILABLE)));
+
+    /**
+     * Checks whether a room in this status may move to the given one.
+     *
+     * @param next the status to move to.
+     * @return true if the transition is allowed.
+     */
+    public boolean canTransitionTo(RoomStatus next) {
+        return TRANSITIONS.get(this).contains(next);
+    }
+
+    /**
+     * Checks whether rooms in this status can take new stays.
+     * Occupied, cleaning and reserved rooms describe the present only, so they can still be booked for
+     * stays that do not overlap the current one; rooms under maintenance are out of service.
+     *
+     * @return true if the room can be booked.
+     */
+    public boolean isBookable() {
+        return this != MAINTENANCE;
+    }
 }
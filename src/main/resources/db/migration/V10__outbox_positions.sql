@@ -0,0 +1,25 @@
+-- Publication order of outbox events. Event IDs come from a pooled sequence and are handed out in blocks
+-- per instance, so they follow neither the order in which changes commit nor the order in which they are
+-- published. Streams resume from the position instead, which publishers assign in commit order while
+-- holding the single row of outbox_cursor.
+
+ALTER TABLE outbox_events ADD COLUMN publish_position BIGINT;
+
+-- Events already published keep their publication order.
+UPDATE outbox_events event
+SET publish_position = numbered.position
+FROM (SELECT id, row_number() OVER (ORDER BY published_at, id) AS position
+      FROM outbox_events
+      WHERE published_at IS NOT NULL) numbered
+WHERE event.id = numbered.id;
+
+CREATE UNIQUE INDEX idx_outbox_events_publish_position
+    ON outbox_events (publish_position);
+
+CREATE TABLE outbox_cursor (
+    id            INTEGER NOT NULL PRIMARY KEY,
+    last_position BIGINT  NOT NULL
+);
+
+INSERT INTO outbox_cursor (id, last_position)
+SELECT 1, COALESCE(MAX(publish_position), 0) FROM outbox_events;
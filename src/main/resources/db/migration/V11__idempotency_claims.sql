@@ -0,0 +1,4 @@
+-- Idempotency keys are claimed with a pending row, without a response, before their request runs, so a
+-- retry reaching another node while the first attempt is still running finds the key taken.
+
+ALTER TABLE idempotency_keys ALTER COLUMN response DROP NOT NULL;
@@ -0,0 +1,36 @@
+-- Schema as previously created by Hibernate (ddl-auto: update).
+-- Existing databases are baselined at this version and skip it.
+
+CREATE TABLE roles (
+    id   BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(255) CHECK (name IN ('ROLE_ADMIN', 'ROLE_USER'))
+);
+
+CREATE TABLE users (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    created_at TIMESTAMP(6),
+    email      VARCHAR(255) UNIQUE,
+    first_name VARCHAR(255),
+    last_name  VARCHAR(255),
+    password   VARCHAR(255) NOT NULL,
+    phone      VARCHAR(255),
+    role_id    BIGINT REFERENCES roles (id)
+);
+
+CREATE TABLE reservations (
+    id               BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    booking_date     TIMESTAMP(6) NOT NULL,
+    reservation_date TIMESTAMP(6) NOT NULL,
+    version          BIGINT       NOT NULL DEFAULT 0,
+    user_id          BIGINT REFERENCES users (id)
+);
+
+CREATE TABLE rooms (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    price          NUMERIC(38, 2),
+    room_number    VARCHAR(255) UNIQUE,
+    status         VARCHAR(255) CHECK (status IN ('AVAILABLE', 'OCCUPIED', 'CLEANING', 'MAINTENANCE', 'RESERVED')),
+    type           VARCHAR(255) NOT NULL CHECK (type IN ('SINGLE', 'DOUBLE', 'SUITE', 'DELUXE')),
+    version        BIGINT       NOT NULL DEFAULT 0,
+    reservation_id BIGINT REFERENCES reservations (id)
+);
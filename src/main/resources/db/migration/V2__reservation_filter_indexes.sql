@@ -0,0 +1,17 @@
+-- Indexes backing the reservation filters and keyset pagination.
+
+-- Date ranges and the (reservation_date, id) keyset order.
+CREATE INDEX IF NOT EXISTS idx_reservations_reservation_date_id
+    ON reservations (reservation_date, id);
+
+-- Reservations of one user, in keyset order.
+CREATE INDEX IF NOT EXISTS idx_reservations_user_id_reservation_date_id
+    ON reservations (user_id, reservation_date, id);
+
+-- Rooms of a reservation, optionally of one type: the room type filter and the room loading of a page.
+CREATE INDEX IF NOT EXISTS idx_rooms_reservation_id_type
+    ON rooms (reservation_id, type);
+
+-- Room catalog loading by type.
+CREATE INDEX IF NOT EXISTS idx_rooms_type_id
+    ON rooms (type, id);
@@ -0,0 +1,15 @@
+-- Reservations and rooms take their IDs from pooled sequences (50 per call) instead of identity columns,
+-- which lets Hibernate batch their inserts. Hibernate uses the pooled-lo optimizer: a value N reserves
+-- N..N+49, so rows inserted with the column default (one nextval each) never collide with its blocks.
+
+CREATE SEQUENCE reservations_seq INCREMENT BY 50;
+SELECT setval('reservations_seq', COALESCE((SELECT MAX(id) FROM reservations), 0) + 1, false);
+ALTER TABLE reservations ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE reservations ALTER COLUMN id SET DEFAULT nextval('reservations_seq');
+ALTER SEQUENCE reservations_seq OWNED BY reservations.id;
+
+CREATE SEQUENCE rooms_seq INCREMENT BY 50;
+SELECT setval('rooms_seq', COALESCE((SELECT MAX(id) FROM rooms), 0) + 1, false);
+ALTER TABLE rooms ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE rooms ALTER COLUMN id SET DEFAULT nextval('rooms_seq');
+ALTER SEQUENCE rooms_seq OWNED BY rooms.id;
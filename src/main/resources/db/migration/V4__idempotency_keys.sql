@@ -0,0 +1,10 @@
+-- Responses of idempotent requests, used when reservation.idempotency.store is jdbc.
+
+CREATE TABLE idempotency_keys (
+    idempotency_key VARCHAR(300) PRIMARY KEY,
+    fingerprint     VARCHAR(64)  NOT NULL,
+    response        TEXT         NOT NULL,
+    created_at      TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX idx_idempotency_keys_created_at ON idempotency_keys (created_at);
@@ -0,0 +1,43 @@
+-- Multi-night stays: a reservation runs from its reservation (check-in) date to its check-out date,
+-- and holds each of its rooms through a row of reservation_rooms. A room can be held by many reservations
+-- as long as their stays do not overlap, which the exclusion constraint enforces with a GiST index.
+-- Stays are stored as TIMESTAMP without time zone like every other date of the schema, hence tsrange.
+
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+-- Existing reservations become one-night stays.
+ALTER TABLE reservations ADD COLUMN check_out_date TIMESTAMP(6);
+UPDATE reservations SET check_out_date = reservation_date + INTERVAL '1 day';
+ALTER TABLE reservations ALTER COLUMN check_out_date SET NOT NULL;
+ALTER TABLE reservations ADD CONSTRAINT chk_reservations_stay CHECK (check_out_date > reservation_date);
+
+CREATE SEQUENCE reservation_rooms_seq INCREMENT BY 50;
+
+CREATE TABLE reservation_rooms (
+    id             BIGINT       NOT NULL DEFAULT nextval('reservation_rooms_seq') PRIMARY KEY,
+    reservation_id BIGINT       NOT NULL REFERENCES reservations (id) ON DELETE CASCADE,
+    room_id        BIGINT       NOT NULL REFERENCES rooms (id),
+    check_in       TIMESTAMP(6) NOT NULL,
+    check_out      TIMESTAMP(6) NOT NULL,
+    stay           TSRANGE GENERATED ALWAYS AS (tsrange(check_in, check_out, '[)')) STORED,
+    CONSTRAINT uk_reservation_rooms_reservation_room UNIQUE (reservation_id, room_id),
+    CONSTRAINT ex_reservation_rooms_room_stay EXCLUDE USING gist (room_id WITH =, stay WITH &&)
+);
+
+ALTER SEQUENCE reservation_rooms_seq OWNED BY reservation_rooms.id;
+
+-- Move the rooms currently held by a reservation to stays.
+INSERT INTO reservation_rooms (reservation_id, room_id, check_in, check_out)
+SELECT reservation.id, room.id, reservation.reservation_date, reservation.check_out_date
+FROM rooms room
+JOIN reservations reservation ON reservation.id = room.reservation_id;
+
+-- Bookings no longer change the status of rooms.
+UPDATE rooms SET status = 'AVAILABLE', version = version + 1 WHERE status = 'RESERVED';
+
+DROP INDEX IF EXISTS idx_rooms_reservation_id_type;
+ALTER TABLE rooms DROP COLUMN reservation_id;
+
+-- Stays still running, loaded at startup by the availability index.
+CREATE INDEX idx_reservation_rooms_check_out
+    ON reservation_rooms (check_out);
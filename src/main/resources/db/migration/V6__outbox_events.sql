@@ -0,0 +1,22 @@
+-- Outbox of reservation changes, written in the transaction of each change and drained by a publisher.
+
+CREATE SEQUENCE outbox_events_seq INCREMENT BY 50;
+
+CREATE TABLE outbox_events (
+    id             BIGINT       NOT NULL DEFAULT nextval('outbox_events_seq') PRIMARY KEY,
+    type           VARCHAR(255) NOT NULL CHECK (type IN ('RESERVATION_CREATED', 'RESERVATION_UPDATED', 'RESERVATION_DELETED', 'ROOM_STATUS_CHANGED')),
+    reservation_id BIGINT,
+    payload        TEXT         NOT NULL,
+    created_at     TIMESTAMP(6) NOT NULL,
+    published_at   TIMESTAMP(6)
+);
+
+ALTER SEQUENCE outbox_events_seq OWNED BY outbox_events.id;
+
+-- Pending events, in publication order; stays small as events are published.
+CREATE INDEX idx_outbox_events_pending
+    ON outbox_events (id) WHERE published_at IS NULL;
+
+-- Purge of published events.
+CREATE INDEX idx_outbox_events_published_at
+    ON outbox_events (published_at);
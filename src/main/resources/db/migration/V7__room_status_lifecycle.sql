@@ -0,0 +1,13 @@
+-- Room status lifecycle: the scheduler moves rooms through their stays and needs to know since when
+-- a room is in its status, e.g. to end cleaning.
+
+ALTER TABLE rooms ADD COLUMN status_changed_at TIMESTAMP(6);
+UPDATE rooms SET status_changed_at = LOCALTIMESTAMP;
+
+-- Rooms due for a transition out of their status.
+CREATE INDEX idx_rooms_status_status_changed_at
+    ON rooms (status, status_changed_at);
+
+-- Stays starting soon or running now.
+CREATE INDEX idx_reservation_rooms_check_in
+    ON reservation_rooms (check_in);
@@ -0,0 +1,9 @@
+-- Reservation history of each user, newest first.
+-- The index carries every column the history reads, so pages are answered by an index-only scan
+-- without visiting the table. Scanned backwards it also serves the ascending (user_id, reservation_date, id)
+-- order of the reservation filters, which the index it replaces was created for.
+
+CREATE INDEX IF NOT EXISTS idx_reservations_user_id_reservation_date_desc
+    ON reservations (user_id, reservation_date DESC, id DESC) INCLUDE (booking_date, check_out_date);
+
+DROP INDEX IF EXISTS idx_reservations_user_id_reservation_date_id;
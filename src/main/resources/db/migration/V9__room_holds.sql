@@ -0,0 +1,26 @@
+-- Holds placed on rooms during checkout. They are served from memory and persisted here only to be
+-- restored after a restart, so the tables stay small: lapsed holds are deleted as they expire.
+
+CREATE SEQUENCE room_holds_seq INCREMENT BY 50;
+
+CREATE TABLE room_holds (
+    id               BIGINT       NOT NULL DEFAULT nextval('room_holds_seq') PRIMARY KEY,
+    user_id          BIGINT       NOT NULL REFERENCES users (id),
+    reservation_date TIMESTAMP(6) NOT NULL,
+    check_out_date   TIMESTAMP(6) NOT NULL,
+    created_at       TIMESTAMP(6) NOT NULL,
+    expires_at       TIMESTAMP(6) NOT NULL,
+    CONSTRAINT chk_room_holds_stay CHECK (check_out_date > reservation_date)
+);
+
+ALTER SEQUENCE room_holds_seq OWNED BY room_holds.id;
+
+CREATE TABLE room_hold_rooms (
+    hold_id BIGINT NOT NULL REFERENCES room_holds (id) ON DELETE CASCADE,
+    room_id BIGINT NOT NULL REFERENCES rooms (id),
+    PRIMARY KEY (hold_id, room_id)
+);
+
+-- Holds still active, restored at startup, and lapsed ones, purged.
+CREATE INDEX idx_room_holds_expires_at
+    ON room_holds (expires_at);
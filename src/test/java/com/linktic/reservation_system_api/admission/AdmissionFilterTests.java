@@ -0,0 +1,97 @@
+package com.linktic.reservation_system_api.admission;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linktic.reservation_system_api.cache.UserLookupCache;
+import com.linktic.reservation_system_api.config.AdmissionProperties;
+import com.linktic.reservation_system_api.dto.UserView;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AdmissionFilterTests {
+
+    private final UserLookupCache userLookupCache = mock(UserLookupCache.class);
+    private final AdmissionFilter filter = filter();
+
+    @Test
+    void eachUserIsHeldToItsOwnRate() throws Exception {
+        assertThat(book("alice@link.tic", "client-1")).isEqualTo(HttpStatus.OK.value());
+        assertThat(book("bob@link.tic", "client-1")).isEqualTo(HttpStatus.OK.value());
+
+        assertThat(book("alice@link.tic", "client-1")).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        assertThat(book("bob@link.tic", "client-1")).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+    }
+
+    @Test
+    void rotatingTheClientHeaderDoesNotResetTheLimit() throws Exception {
+        assertThat(book("alice@link.tic", "client-1")).isEqualTo(HttpStatus.OK.value());
+
+        assertThat(book("alice@link.tic", "client-2")).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        assertThat(book("alice@link.tic", null)).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+    }
+
+    @Test
+    void unknownUsersAreKeyedByAddress() throws Exception {
+        assertThat(book("nobody@link.tic", "client-1")).isEqualTo(HttpStatus.OK.value());
+
+        assertThat(book("someone@link.tic", "client-2")).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+    }
+
+    @Test
+    void theHandlerStillReadsTheBody() throws Exception {
+        MockHttpServletRequest request = request("alice@link.tic", null);
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertThat(chain.getRequest().getInputStream().readAllBytes())
+                .isEqualTo(request.getContentAsByteArray());
+    }
+
+    private int book(String userEmail, String clientId) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request(userEmail, clientId), response, new MockFilterChain());
+        return response.getStatus();
+    }
+
+    private static MockHttpServletRequest request(String userEmail, String clientId) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/reservations");
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        request.setContent(("{\"userEmail\": \"" + userEmail + "\", \"roomIds\": [1]}").getBytes(StandardCharsets.UTF_8));
+        if (clientId != null) {
+            request.addHeader("X-Client-Id", clientId);
+        }
+        return request;
+    }
+
+    private AdmissionFilter filter() {
+        when(userLookupCache.findByEmail(anyString())).thenReturn(Optional.empty());
+        when(userLookupCache.findByEmail("alice@link.tic")).thenReturn(Optional.of(user(1L, "alice@link.tic")));
+        when(userLookupCache.findByEmail("bob@link.tic")).thenReturn(Optional.of(user(2L, "bob@link.tic")));
+
+        // A burst of one with a negligible rate: a client's second request is always refused.
+        AdmissionProperties properties = new AdmissionProperties(true, 0.001, 1, 100, Duration.ofMinutes(10),
+                10, Duration.ofMillis(20), Duration.ofSeconds(1));
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        return new AdmissionFilter(properties, new ClientRateLimiter(properties),
+                new WriteBulkhead(properties, meterRegistry), userLookupCache, new ObjectMapper(), meterRegistry);
+    }
+
+    private static UserView user(Long id, String email) {
+        return new UserView(id, "First", "Last", "3000000000", email, null, null);
+    }
+}
@@ -0,0 +1,55 @@
+package com.linktic.reservation_system_api.admission;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class TokenBucketTests {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void aBurstIsAdmittedThenRequestsAreHeldToTheRate() {
+        TokenBucket bucket = new TokenBucket(2, 3, 0);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(bucket.tryConsume(0)).isZero();
+        }
+        assertThat(bucket.tryConsume(0)).isCloseTo(SECOND / 2, within(1_000L));
+        assertThat(bucket.tryConsume(SECOND / 4)).isCloseTo(SECOND / 4, within(1_000L));
+
+        long refilled = SECOND / 2 + 1_000;
+        assertThat(bucket.tryConsume(refilled)).isZero();
+        assertThat(bucket.tryConsume(refilled)).isPositive();
+    }
+
+    @Test
+    void anIdleBucketRefillsUpToItsBurst() {
+        TokenBucket bucket = new TokenBucket(2, 3, 0);
+        for (int i = 0; i < 3; i++) {
+            bucket.tryConsume(0);
+        }
+
+        long later = 60 * SECOND;
+        for (int i = 0; i < 3; i++) {
+            assertThat(bucket.tryConsume(later)).isZero();
+        }
+        assertThat(bucket.tryConsume(later)).isPositive();
+    }
+
+    @Test
+    void aLateCallerDoesNotMoveTheRefillTimeBack() {
+        TokenBucket bucket = new TokenBucket(2, 2, 0);
+
+        assertThat(bucket.tryConsume(SECOND / 2)).isZero();
+        // Read its time before the previous call, and takes the remaining token.
+        assertThat(bucket.tryConsume(SECOND / 4)).isZero();
+
+        // A single token was refilled since the last call, not the time from the late caller on.
+        assertThat(bucket.tryConsume(SECOND)).isZero();
+        assertThat(bucket.tryConsume(SECOND + SECOND / 4)).isPositive();
+    }
+}
@@ -0,0 +1,116 @@
+package com.linktic.reservation_system_api.analytics;
+
+import com.linktic.reservation_system_api.config.AnalyticsProperties;
+import com.linktic.reservation_system_api.dto.RoomStayRow;
+import com.linktic.reservation_system_api.repository.RoomStayRepository;
+import com.linktic.reservation_system_api.util.RoomType;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class OccupancyCountersTests {
+
+    private static final LocalDate TODAY = LocalDate.now();
+    private static final AnalyticsProperties PROPERTIES =
+            new AnalyticsProperties(Duration.ofDays(10), 2, "-", Duration.ofDays(800));
+
+    /**
+     * The committed stays, as read by the rebuild queries.
+     */
+    private final Map<Long, RoomStayRow> database = new ConcurrentHashMap<>();
+
+    @Test
+    void changesCommittedDuringARebuildAreCountedOnce() {
+        // Every stay spans all the chunks of the rebuild, which covers the days up to the last check-out.
+        commit(stay(1L, RoomType.SINGLE, 100));
+        commit(stay(2L, RoomType.DOUBLE, 150));
+        commit(stay(3L, RoomType.SINGLE, 100));
+        commit(stay(4L, RoomType.SUITE, 300));
+        commit(new RoomStayRow(99L, TODAY.minusDays(5).atStartOfDay(), TODAY.plusDays(90).atStartOfDay(), RoomType.DELUXE,
+                BigDecimal.valueOf(500)));
+
+        RoomStayRepository roomStayRepository = repository();
+        OccupancyCounters counters = new OccupancyCounters(roomStayRepository, PROPERTIES);
+        counters.rebuild();
+
+        AtomicBoolean changed = new AtomicBoolean();
+        doAnswer(invocation -> {
+            if (changed.compareAndSet(false, true)) {
+                // Committed and counted before the first query reads its chunk.
+                RoomStayRow booked = stay(10L, RoomType.SINGLE, 100);
+                commit(booked);
+                counters.add(List.of(booked));
+                counters.remove(List.of(cancel(1L)));
+                // Committed before the query, but counted once the query has read its chunk.
+                RoomStayRow bookedLate = stay(11L, RoomType.DOUBLE, 150);
+                commit(bookedLate);
+                RoomStayRow cancelledLate = cancel(2L);
+
+                List<RoomStayRow> rows = rowsBetween(invocation.getArgument(0), invocation.getArgument(1));
+                counters.add(List.of(bookedLate));
+                counters.remove(List.of(cancelledLate));
+                // Committed after the query read its chunk.
+                RoomStayRow bookedAfter = stay(12L, RoomType.SUITE, 300);
+                commit(bookedAfter);
+                counters.add(List.of(bookedAfter));
+                counters.remove(List.of(cancel(3L)));
+                return rows;
+            }
+            return rowsBetween(invocation.getArgument(0), invocation.getArgument(1));
+        }).when(roomStayRepository).findRowsBetween(any(), any());
+        assertThat(counters.rebuild()).isTrue();
+
+        OccupancyCounters clean = new OccupancyCounters(repository(), PROPERTIES);
+        clean.rebuild();
+        assertThat(clean.nights(TODAY, RoomType.SINGLE)).isEqualTo(1);
+        for (LocalDate day = counters.coveredFrom(); day.isBefore(TODAY.plusDays(95)); day = day.plusDays(1)) {
+            for (RoomType type : RoomType.values()) {
+                assertThat(counters.nights(day, type)).as("nights of %s on %s", type, day).isEqualTo(clean.nights(day, type));
+                assertThat(counters.revenue(day, type)).as("revenue of %s on %s", type, day).isEqualByComparingTo(clean.revenue(day, type));
+            }
+        }
+    }
+
+    private RoomStayRepository repository() {
+        RoomStayRepository roomStayRepository = mock(RoomStayRepository.class);
+        when(roomStayRepository.findLastCheckOut()).thenAnswer(invocation -> database.values().stream()
+                .map(RoomStayRow::checkOut)
+                .max(LocalDateTime::compareTo)
+                .orElse(null));
+        when(roomStayRepository.findRowsBetween(any(), any())).thenAnswer(invocation ->
+                rowsBetween(invocation.getArgument(0), invocation.getArgument(1)));
+        return roomStayRepository;
+    }
+
+    private List<RoomStayRow> rowsBetween(LocalDateTime from, LocalDateTime to) {
+        return database.values().stream()
+                .filter(stay -> stay.checkIn().isBefore(to) && stay.checkOut().isAfter(from))
+                .toList();
+    }
+
+    private void commit(RoomStayRow stay) {
+        database.put(stay.id(), stay);
+    }
+
+    private RoomStayRow cancel(Long id) {
+        return database.remove(id);
+    }
+
+    private static RoomStayRow stay(Long id, RoomType type, int price) {
+        return new RoomStayRow(id, TODAY.minusDays(3).atStartOfDay(), TODAY.plusDays(60).atStartOfDay(), type,
+                BigDecimal.valueOf(price));
+    }
+}
@@ -0,0 +1,40 @@
+package com.linktic.reservation_system_api.availability;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RoomTimelineTests {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2030, 1, 10, 15, 0);
+
+    @Test
+    void staysConflictOnlyWhenTheyOverlap() {
+        RoomTimeline timeline = new RoomTimeline();
+        timeline.book(1L, DAY, DAY.plusDays(3));
+        timeline.book(2L, DAY.plusDays(5), DAY.plusDays(7));
+
+        assertThat(timeline.isFree(DAY.minusDays(2), DAY, null)).isTrue();
+        assertThat(timeline.isFree(DAY.plusDays(3), DAY.plusDays(5), null)).isTrue();
+        assertThat(timeline.isFree(DAY.plusDays(7), DAY.plusDays(9), null)).isTrue();
+
+        assertThat(timeline.isFree(DAY.minusDays(1), DAY.plusDays(1), null)).isFalse();
+        assertThat(timeline.isFree(DAY.plusDays(2), DAY.plusDays(6), null)).isFalse();
+        assertThat(timeline.isFree(DAY.plusDays(6), DAY.plusDays(8), null)).isFalse();
+        assertThat(timeline.isFree(DAY.minusDays(1), DAY.plusDays(10), null)).isFalse();
+    }
+
+    @Test
+    void aReservationDoesNotConflictWithItsOwnStay() {
+        RoomTimeline timeline = new RoomTimeline();
+        timeline.book(1L, DAY, DAY.plusDays(3));
+
+        assertThat(timeline.isFree(DAY.plusDays(1), DAY.plusDays(4), 1L)).isTrue();
+        assertThat(timeline.isFree(DAY.plusDays(1), DAY.plusDays(4), 2L)).isFalse();
+
+        timeline.release(1L);
+        assertThat(timeline.isFree(DAY.plusDays(1), DAY.plusDays(4), null)).isTrue();
+    }
+}
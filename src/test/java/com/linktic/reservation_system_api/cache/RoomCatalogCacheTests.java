@@ -0,0 +1,67 @@
+package com.linktic.reservation_system_api.cache;
+
+import com.linktic.reservation_system_api.config.CachingProperties;
+import com.linktic.reservation_system_api.dto.RoomView;
+import com.linktic.reservation_system_api.event.RoomStatusChangedEvent;
+import com.linktic.reservation_system_api.repository.RoomRepository;
+import com.linktic.reservation_system_api.util.RoomStatus;
+import com.linktic.reservation_system_api.util.RoomType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RoomCatalogCacheTests {
+
+    private final RoomRepository roomRepository = mock(RoomRepository.class);
+
+    @Test
+    void aTypeWithMoreRoomsThanTheSizeBoundIsStillCached() {
+        when(roomRepository.findViewsByTypeIn(any())).thenReturn(List.of(
+                room(1L, RoomStatus.AVAILABLE), room(2L, RoomStatus.AVAILABLE), room(3L, RoomStatus.OCCUPIED)));
+        RoomCatalogCache cache = cache(1, Duration.ofMinutes(10));
+
+        assertThat(cache.findByTypeAndPrice(RoomType.SINGLE, null, null)).hasSize(3);
+        assertThat(cache.findByTypeAndPrice(RoomType.SINGLE, null, null)).hasSize(3);
+
+        verify(roomRepository, times(1)).findViewsByTypeIn(any());
+    }
+
+    @Test
+    void aReloadDoesNotOverwriteAStatusPatchedWhileItRead() {
+        RoomCatalogCache cache = cache(8, Duration.ZERO);
+        when(roomRepository.findViewsByTypeIn(any()))
+                .thenReturn(List.of(room(1L, RoomStatus.AVAILABLE)))
+                .thenAnswer(invocation -> {
+                    // The room is checked in after the query read it, but before the load completes.
+                    cache.onRoomStatusChanged(new RoomStatusChangedEvent(List.of(1L), RoomStatus.OCCUPIED));
+                    return List.of(room(1L, RoomStatus.AVAILABLE));
+                });
+        cache.afterSingletonsInstantiated();
+        assertThat(cache.countInStatus(RoomStatus.AVAILABLE)).isEqualTo(1);
+
+        assertThat(cache.getAll()).extracting(RoomView::status).containsExactly(RoomStatus.OCCUPIED);
+        assertThat(cache.countInStatus(RoomStatus.OCCUPIED)).isEqualTo(1);
+        assertThat(cache.countInStatus(RoomStatus.AVAILABLE)).isZero();
+    }
+
+    private RoomCatalogCache cache(long maxSize, Duration ttl) {
+        CachingProperties properties = new CachingProperties(
+                new CachingProperties.Spec(maxSize, ttl),
+                new CachingProperties.LookupSpec(10, ttl, ttl));
+        return new RoomCatalogCache(roomRepository, properties, new SimpleMeterRegistry());
+    }
+
+    private static RoomView room(Long id, RoomStatus status) {
+        return new RoomView(id, String.valueOf(100 + id), RoomType.SINGLE, status, BigDecimal.valueOf(100));
+    }
+}
@@ -0,0 +1,69 @@
+package com.linktic.reservation_system_api.hold;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimingWheelTests {
+
+    private static final long TICK = 1_000;
+
+    @Test
+    void itemsAreCollectedOnceTheirDeadlinePasses() {
+        TimingWheel<String> wheel = new TimingWheel<>(TICK, 8, 0);
+        wheel.schedule("a", 2_500);
+        wheel.schedule("b", 5_000);
+        List<String> expired = new ArrayList<>();
+
+        wheel.advance(2_000, expired::add);
+        assertThat(expired).isEmpty();
+
+        wheel.advance(3_000, expired::add);
+        assertThat(expired).containsExactly("a");
+
+        wheel.advance(5_000, expired::add);
+        assertThat(expired).containsExactly("a", "b");
+    }
+
+    @Test
+    void itemsBeyondOneTurnWaitForTheirOwnTurn() {
+        TimingWheel<String> wheel = new TimingWheel<>(TICK, 8, 0);
+        wheel.schedule("later", 11_000);
+        List<String> expired = new ArrayList<>();
+
+        wheel.advance(3_000, expired::add);
+        wheel.advance(8_000, expired::add);
+        assertThat(expired).isEmpty();
+
+        wheel.advance(11_000, expired::add);
+        assertThat(expired).containsExactly("later");
+    }
+
+    @Test
+    void aLongPauseCollectsEverythingDue() {
+        TimingWheel<String> wheel = new TimingWheel<>(TICK, 8, 0);
+        wheel.schedule("a", 1_000);
+        wheel.schedule("b", 7_000);
+        wheel.schedule("c", 30_000);
+        wheel.schedule("d", 100_000);
+        List<String> expired = new ArrayList<>();
+
+        wheel.advance(50_000, expired::add);
+
+        assertThat(expired).containsExactlyInAnyOrder("a", "b", "c");
+    }
+
+    @Test
+    void pastDeadlinesAreCollectedOnTheNextAdvance() {
+        TimingWheel<String> wheel = new TimingWheel<>(TICK, 8, 10_000);
+        wheel.schedule("late", 4_000);
+        List<String> expired = new ArrayList<>();
+
+        wheel.advance(11_000, expired::add);
+
+        assertThat(expired).containsExactly("late");
+    }
+}
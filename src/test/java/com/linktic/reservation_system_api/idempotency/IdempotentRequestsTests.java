@@ -0,0 +1,108 @@
+package com.linktic.reservation_system_api.idempotency;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linktic.reservation_system_api.config.IdempotencyProperties;
+import com.linktic.reservation_system_api.dto.Response;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdempotentRequestsTests {
+
+    private static final String SCOPE = "reservations:create";
+    private static final Map<String, Object> REQUEST = Map.of("userEmail", "user@link.tic", "roomIds", 1);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final JavaType responseType = objectMapper.getTypeFactory().constructParametricType(Response.class, String.class);
+    private final IdempotencyStore store = new InMemoryIdempotencyStore(
+            new IdempotencyProperties("memory", 100, Duration.ofHours(1), Duration.ofMinutes(1)), new SimpleMeterRegistry());
+    private final IdempotentRequests requests = new IdempotentRequests(store, objectMapper);
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @Test
+    void aCompletedKeyIsAnsweredWithTheStoredResponse() {
+        Response<String> first = requests.execute(SCOPE, "key-1", REQUEST, responseType, this::created);
+        Response<String> retry = requests.execute(SCOPE, "key-1", REQUEST, responseType, this::created);
+
+        assertThat(retry).isEqualTo(first);
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    void aKeyReusedWithAnotherRequestIsRejected() {
+        requests.execute(SCOPE, "key-1", REQUEST, responseType, this::created);
+
+        Response<String> reused = requests.execute(SCOPE, "key-1", Map.of("roomIds", 2), responseType, this::created);
+
+        assertThat(reused.getStatusCode()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY.value());
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    void aRetryWhileTheRequestRunsWaitsForItsResponse() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Response<String>> first = CompletableFuture.supplyAsync(() ->
+                requests.execute(SCOPE, "key-1", REQUEST, responseType, () -> {
+                    started.countDown();
+                    await(release);
+                    return created();
+                }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<Response<String>> retry = CompletableFuture.supplyAsync(() ->
+                requests.execute(SCOPE, "key-1", REQUEST, responseType, this::created));
+        Response<String> reused = requests.execute(SCOPE, "key-1", Map.of("roomIds", 2), responseType, this::created);
+        release.countDown();
+
+        assertThat(retry.get(5, TimeUnit.SECONDS)).isEqualTo(first.get(5, TimeUnit.SECONDS));
+        assertThat(reused.getStatusCode()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY.value());
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    void aRetryOnAnotherNodeWhileTheRequestRunsIsAConflict() throws Exception {
+        IdempotentRequests otherNode = new IdempotentRequests(store, objectMapper);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Response<String>> first = CompletableFuture.supplyAsync(() ->
+                requests.execute(SCOPE, "key-1", REQUEST, responseType, () -> {
+                    started.countDown();
+                    await(release);
+                    return created();
+                }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        Response<String> retry = otherNode.execute(SCOPE, "key-1", REQUEST, responseType, this::created);
+        release.countDown();
+
+        assertThat(retry.getStatusCode()).isEqualTo(HttpStatus.CONFLICT.value());
+        assertThat(first.get(5, TimeUnit.SECONDS).getStatusCode()).isEqualTo(HttpStatus.CREATED.value());
+        assertThat(otherNode.execute(SCOPE, "key-1", REQUEST, responseType, this::created))
+                .isEqualTo(first.get());
+        assertThat(executions).hasValue(1);
+    }
+
+    private Response<String> created() {
+        int execution = executions.incrementAndGet();
+        return new Response<>(true, "Reservation created", HttpStatus.CREATED.value(), "reservation-" + execution);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.linktic.reservation_system_api.idempotency;
+
+import com.linktic.reservation_system_api.config.IdempotencyProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JdbcIdempotencyStoreTests {
+
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(
+            new DriverManagerDataSource("jdbc:h2:mem:idempotency;MODE=PostgreSQL;DB_CLOSE_DELAY=-1"));
+    private final JdbcIdempotencyStore store = new JdbcIdempotencyStore(jdbcTemplate,
+            new IdempotencyProperties("jdbc", 100, Duration.ofHours(1), Duration.ofMinutes(1)));
+
+    @BeforeEach
+    void createTable() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS idempotency_keys");
+        jdbcTemplate.execute("CREATE TABLE idempotency_keys (idempotency_key VARCHAR(300) PRIMARY KEY, " +
+                "fingerprint VARCHAR(64) NOT NULL, response TEXT, created_at TIMESTAMP(6) NOT NULL)");
+    }
+
+    @Test
+    void aKeyIsClaimedOnceUntilItsRequestCompletes() {
+        assertThat(store.claim("key-1", "a")).isEmpty();
+        assertThat(store.claim("key-1", "a")).contains(new IdempotencyRecord("a", null));
+
+        store.complete("key-1", new IdempotencyRecord("a", "{}"));
+        assertThat(store.claim("key-1", "a")).contains(new IdempotencyRecord("a", "{}"));
+    }
+
+    @Test
+    void aReleasedKeyCanBeClaimedAgain() {
+        store.claim("key-1", "a");
+        store.release("key-1", "a");
+
+        assertThat(store.claim("key-1", "b")).isEmpty();
+    }
+
+    @Test
+    void anAbandonedClaimIsTakenOver() {
+        insert("key-1", "a", null, Duration.ofMinutes(2));
+        insert("key-2", "a", null, Duration.ofSeconds(10));
+
+        assertThat(store.claim("key-1", "b")).isEmpty();
+        assertThat(store.claim("key-1", "c")).contains(new IdempotencyRecord("b", null));
+        assertThat(store.claim("key-2", "b")).contains(new IdempotencyRecord("a", null));
+    }
+
+    @Test
+    void anExpiredRecordIsTakenOver() {
+        insert("key-1", "a", "{}", Duration.ofHours(2));
+        insert("key-2", "a", "{}", Duration.ofMinutes(2));
+
+        assertThat(store.claim("key-1", "b")).isEmpty();
+        assertThat(store.claim("key-2", "b")).contains(new IdempotencyRecord("a", "{}"));
+    }
+
+    private void insert(String key, String fingerprint, String response, Duration age) {
+        jdbcTemplate.update("INSERT INTO idempotency_keys (idempotency_key, fingerprint, response, created_at) VALUES (?, ?, ?, ?)",
+                key, fingerprint, response, Timestamp.from(Instant.now().minus(age)));
+    }
+}
@@ -0,0 +1,137 @@
+package com.linktic.reservation_system_api.load;
+
+import com.linktic.reservation_system_api.entity.Role;
+import com.linktic.reservation_system_api.entity.Room;
+import com.linktic.reservation_system_api.entity.User;
+import com.linktic.reservation_system_api.util.RoomStatus;
+import com.linktic.reservation_system_api.util.RoomType;
+import com.linktic.reservation_system_api.util.UserRole;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Load test of the reservation endpoints in virtual-thread mode, against an embedded database.
+ * Excluded from the regular build; run with {@code ./gradlew loadTest}.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.threads.virtual.enabled=true",
+        "spring.datasource.url=jdbc:h2:mem:load;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.hikari.maximum-pool-size=10",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false",
+        "logging.level.com.linktic=WARN",
+        // A single client books every room at once, which admission control would otherwise reject.
+        "reservation.admission.enabled=false"
+})
+class ReservationLoadTests {
+
+    private static final int CONCURRENT_REQUESTS = 1000;
+    private static final int MAX_PLATFORM_THREADS = 200;
+    private static final String USER_EMAIL = "load@link.tic";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final HttpClient client = HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build();
+    private List<Long> roomIds;
+
+    @BeforeEach
+    void setUp() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            entityManager.getTransaction().begin();
+            Role role = new Role();
+            role.setName(UserRole.ROLE_USER);
+            entityManager.persist(role);
+
+            User user = new User();
+            user.setEmail(USER_EMAIL);
+            user.setPassword("password");
+            user.setRole(role);
+            entityManager.persist(user);
+
+            roomIds = new ArrayList<>(CONCURRENT_REQUESTS);
+            for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+                Room room = new Room();
+                room.setRoomNumber("load-" + i);
+                room.setType(RoomType.SINGLE);
+                room.setStatus(RoomStatus.AVAILABLE);
+                room.setPrice(BigDecimal.TEN);
+                entityManager.persist(room);
+                roomIds.add(room.getId());
+            }
+            entityManager.getTransaction().commit();
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    @Test
+    void concurrentBookingsAndReadsCompleteWithoutGrowingThreadCount() throws Exception {
+        ManagementFactory.getThreadMXBean().resetPeakThreadCount();
+        String reservationDate = LocalDateTime.now().plusDays(7).withNano(0).toString();
+
+        List<Integer> bookings = sendConcurrently(roomIds.stream()
+                .map(roomId -> HttpRequest.newBuilder(uri("/api/reservations"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString("""
+                                {"reservationDate": "%s", "userEmail": "%s", "roomIds": [%d]}
+                                """.formatted(reservationDate, USER_EMAIL, roomId)))
+                        .build())
+                .toList());
+        List<Integer> reads = sendConcurrently(roomIds.stream()
+                .map(roomId -> HttpRequest.newBuilder(uri("/api/reservations?size=20&userEmail=" + USER_EMAIL)).GET().build())
+                .toList());
+
+        assertThat(bookings).hasSize(CONCURRENT_REQUESTS).containsOnly(201);
+        assertThat(reads).hasSize(CONCURRENT_REQUESTS).containsOnly(200);
+        assertThat(ManagementFactory.getThreadMXBean().getPeakThreadCount()).isLessThan(MAX_PLATFORM_THREADS);
+    }
+
+    private List<Integer> sendConcurrently(List<HttpRequest> requests) throws Exception {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Integer>> responses = new ArrayList<>(requests.size());
+            for (HttpRequest request : requests) {
+                responses.add(executor.submit(() -> client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode()));
+            }
+            List<Integer> statusCodes = new ArrayList<>(responses.size());
+            for (Future<Integer> response : responses) {
+                statusCodes.add(response.get());
+            }
+            return statusCodes;
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+}
@@ -0,0 +1,181 @@
+package com.linktic.reservation_system_api.repository;
+
+import com.linktic.reservation_system_api.dto.ReservationRoomRow;
+import com.linktic.reservation_system_api.dto.ReservationRow;
+import com.linktic.reservation_system_api.dto.UserReservationRow;
+import com.linktic.reservation_system_api.entity.Reservation;
+import com.linktic.reservation_system_api.entity.Role;
+import com.linktic.reservation_system_api.entity.Room;
+import com.linktic.reservation_system_api.entity.RoomStay;
+import com.linktic.reservation_system_api.entity.User;
+import com.linktic.reservation_system_api.util.RoomStatus;
+import com.linktic.reservation_system_api.util.RoomType;
+import com.linktic.reservation_system_api.util.UserRole;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false"
+})
+class ReservationRepositoryTests {
+
+    private static final int RESERVATIONS = 20;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        Role role = new Role();
+        role.setName(UserRole.ROLE_USER);
+        entityManager.persist(role);
+
+        LocalDateTime reservationDate = LocalDateTime.now().plusDays(1);
+        for (int i = 0; i < RESERVATIONS; i++) {
+            User user = new User();
+            user.setEmail("user" + i + "@link.tic");
+            user.setPassword("password");
+            user.setRole(role);
+            entityManager.persist(user);
+
+            Reservation reservation = Reservation.builder()
+                    .user(user)
+                    .bookingDate(LocalDateTime.now())
+                    .reservationDate(reservationDate.plusHours(i))
+                    .checkOutDate(reservationDate.plusHours(i).plusDays(2))
+                    .build();
+            entityManager.persist(reservation);
+
+            for (int j = 0; j < 2; j++) {
+                Room room = new Room();
+                room.setRoomNumber(i + "-" + j);
+                room.setType(RoomType.DOUBLE);
+                room.setStatus(RoomStatus.AVAILABLE);
+                room.setPrice(BigDecimal.TEN);
+                entityManager.persist(room);
+                entityManager.persist(RoomStay.builder()
+                        .reservation(reservation)
+                        .room(room)
+                        .checkIn(reservation.getReservationDate())
+                        .checkOut(reservation.getCheckOutDate())
+                        .build());
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void readingAPageOfReservationsCostsAFixedNumberOfQueries() {
+        List<ReservationRow> rows = reservationRepository.findReservationsByFilters(
+                null, null, null, null, null, null, PageRequest.of(0, RESERVATIONS));
+        List<ReservationRoomRow> rooms = reservationRepository.findRoomRows(rows.stream().map(ReservationRow::id).toList());
+
+        assertThat(rows).hasSize(RESERVATIONS)
+                .allSatisfy(row -> assertThat(row.roleName()).isEqualTo(UserRole.ROLE_USER));
+        assertThat(rooms).hasSize(RESERVATIONS * 2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    @Test
+    void readingAReservationByIdDoesNotLoadEntities() {
+        Long id = reservationRepository.findReservationsByFilters(
+                null, null, null, null, null, null, PageRequest.of(0, 1)).get(0).id();
+        statistics.clear();
+
+        ReservationRow row = reservationRepository.findRowById(id).orElseThrow();
+        List<ReservationRoomRow> rooms = reservationRepository.findRoomRows(List.of(id));
+
+        assertThat(row.userEmail()).isNotNull();
+        assertThat(rooms).hasSize(2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    @Test
+    void onlySuppliedFiltersAreApplied() {
+        List<ReservationRow> all = reservationRepository.findReservationsByFilters(
+                null, null, null, null, null, null, PageRequest.of(0, RESERVATIONS));
+        ReservationRow target = all.get(5);
+
+        assertThat(reservationRepository.findReservationsByFilters(
+                all.get(3).reservationDate(), null, null, null, null, null, PageRequest.of(0, RESERVATIONS)))
+                .hasSize(RESERVATIONS - 3);
+        assertThat(reservationRepository.findReservationsByFilters(
+                null, all.get(3).reservationDate(), RoomType.DOUBLE, null, null, null, PageRequest.of(0, RESERVATIONS)))
+                .hasSize(4);
+        assertThat(reservationRepository.findReservationsByFilters(
+                null, null, RoomType.DOUBLE, target.userId(), null, null, PageRequest.of(0, RESERVATIONS)))
+                .extracting(ReservationRow::id)
+                .containsExactly(target.id());
+        assertThat(reservationRepository.findReservationsByFilters(
+                null, null, RoomType.SUITE, target.userId(), null, null, PageRequest.of(0, RESERVATIONS)))
+                .isEmpty();
+    }
+
+    @Test
+    void userHistoryIsPagedNewestFirstWithoutLoadingEntities() {
+        Long userId = reservationRepository.findReservationsByFilters(
+                null, null, null, null, null, null, PageRequest.of(0, 1)).get(0).userId();
+        User user = entityManager.getReference(User.class, userId);
+        LocalDateTime reservationDate = LocalDateTime.now().plusDays(30);
+        for (int i = 0; i < 4; i++) {
+            // Two reservations share each date, so the ID breaks the ties.
+            entityManager.persist(Reservation.builder()
+                    .user(user)
+                    .bookingDate(LocalDateTime.now())
+                    .reservationDate(reservationDate.plusDays(i / 2))
+                    .checkOutDate(reservationDate.plusDays(i / 2 + 1))
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        List<UserReservationRow> history = new ArrayList<>(reservationRepository.findUserHistory(userId, PageRequest.of(0, 2)));
+        while (history.size() < 5) {
+            UserReservationRow last = history.get(history.size() - 1);
+            history.addAll(reservationRepository.findUserHistoryBefore(
+                    userId, last.reservationDate(), last.id(), PageRequest.of(0, 2)));
+        }
+
+        assertThat(history).hasSize(5)
+                .isSortedAccordingTo(Comparator.comparing(UserReservationRow::reservationDate)
+                        .thenComparing(UserReservationRow::id).reversed());
+        assertThat(reservationRepository.findUserHistoryBefore(userId, history.get(4).reservationDate(), history.get(4).id(),
+                PageRequest.of(0, 2))).isEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+        assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+}
@@ -0,0 +1,113 @@
+package com.linktic.reservation_system_api.service;
+
+import com.linktic.reservation_system_api.dto.ReservationDTO;
+import com.linktic.reservation_system_api.entity.Role;
+import com.linktic.reservation_system_api.entity.Room;
+import com.linktic.reservation_system_api.entity.User;
+import com.linktic.reservation_system_api.repository.RoomStayRepository;
+import com.linktic.reservation_system_api.util.RoomStatus;
+import com.linktic.reservation_system_api.util.RoomType;
+import com.linktic.reservation_system_api.util.UserRole;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:concurrency;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false",
+        // Every booking waits for the room lock instead of giving up, so none ends in a conflict.
+        "reservation.booking.lock-timeout=30s"
+})
+class ReservationConcurrencyTests {
+
+    private static final int CONCURRENT_BOOKINGS = 16;
+    private static final String USER_EMAIL = "concurrency@link.tic";
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private RoomStayRepository roomStayRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long roomId;
+
+    @BeforeEach
+    void setUp() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            entityManager.getTransaction().begin();
+            Role role = new Role();
+            role.setName(UserRole.ROLE_USER);
+            entityManager.persist(role);
+
+            User user = new User();
+            user.setEmail(USER_EMAIL);
+            user.setPassword("password");
+            user.setRole(role);
+            entityManager.persist(user);
+
+            Room room = new Room();
+            room.setRoomNumber("concurrency-1");
+            room.setType(RoomType.SINGLE);
+            room.setStatus(RoomStatus.AVAILABLE);
+            room.setPrice(BigDecimal.TEN);
+            entityManager.persist(room);
+            roomId = room.getId();
+            entityManager.getTransaction().commit();
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    @Test
+    void onlyOneOfManyOverlappingBookingsOfARoomSucceeds() throws Exception {
+        LocalDateTime reservationDate = LocalDateTime.now().plusDays(7).withNano(0);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> bookings = new ArrayList<>(CONCURRENT_BOOKINGS);
+        try (ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_BOOKINGS)) {
+            for (int i = 0; i < CONCURRENT_BOOKINGS; i++) {
+                ReservationDTO reservation = new ReservationDTO();
+                reservation.setReservationDate(reservationDate.plusHours(i));
+                reservation.setCheckOutDate(reservationDate.plusDays(2));
+                reservation.setUserEmail(USER_EMAIL);
+                reservation.setRoomIds(Set.of(roomId));
+                bookings.add(executor.submit(() -> {
+                    start.await();
+                    return reservationService.saveReservation(reservation).getStatusCode();
+                }));
+            }
+            start.countDown();
+        }
+
+        List<Integer> statusCodes = new ArrayList<>(CONCURRENT_BOOKINGS);
+        for (Future<Integer> booking : bookings) {
+            statusCodes.add(booking.get());
+        }
+        assertThat(statusCodes).filteredOn(statusCode -> statusCode == 201).hasSize(1);
+        assertThat(statusCodes).filteredOn(statusCode -> statusCode == 400).hasSize(CONCURRENT_BOOKINGS - 1);
+        assertThat(roomStayRepository.count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,140 @@
+package com.linktic.reservation_system_api.service;
+
+import com.linktic.reservation_system_api.concurrency.BookingConflictException;
+import com.linktic.reservation_system_api.dto.ReservationDTO;
+import com.linktic.reservation_system_api.dto.ReservationImportResult;
+import com.linktic.reservation_system_api.dto.ReservationView;
+import com.linktic.reservation_system_api.entity.Role;
+import com.linktic.reservation_system_api.entity.Room;
+import com.linktic.reservation_system_api.entity.User;
+import com.linktic.reservation_system_api.metrics.BookingOutcome;
+import com.linktic.reservation_system_api.metrics.ReservationMetrics;
+import com.linktic.reservation_system_api.outbox.ReservationOutbox;
+import com.linktic.reservation_system_api.util.RoomStatus;
+import com.linktic.reservation_system_api.util.RoomType;
+import com.linktic.reservation_system_api.util.UserRole;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:imports;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false"
+})
+class ReservationImportTests {
+
+    private static final String USER_EMAIL = "import@link.tic";
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @SpyBean
+    private ReservationOutbox outbox;
+
+    private final List<Long> roomIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            entityManager.getTransaction().begin();
+            Role role = new Role();
+            role.setName(UserRole.ROLE_USER);
+            entityManager.persist(role);
+
+            User user = new User();
+            user.setEmail(USER_EMAIL);
+            user.setPassword("password");
+            user.setRole(role);
+            entityManager.persist(user);
+
+            for (int i = 0; i < 3; i++) {
+                Room room = new Room();
+                room.setRoomNumber("import-" + i);
+                room.setType(RoomType.SINGLE);
+                room.setStatus(RoomStatus.AVAILABLE);
+                room.setPrice(BigDecimal.TEN);
+                entityManager.persist(room);
+                roomIds.add(room.getId());
+            }
+            entityManager.getTransaction().commit();
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    @Test
+    void aConflictingChunkIsSplitAndEachRowIsCountedOnce() {
+        // Booking the last room always hits a concurrent change, rolling back every chunk it is part of.
+        Long conflictingRoomId = roomIds.get(2);
+        doThrow(new BookingConflictException("Room reserved concurrently"))
+                .when(outbox).record(any(), any(), argThat(payload -> payload instanceof ReservationView view
+                        && view.rooms().stream().anyMatch(room -> room.id().equals(conflictingRoomId))));
+        Map<BookingOutcome, Double> before = bookings();
+        LocalDateTime reservationDate = LocalDateTime.now().plusDays(7).withNano(0);
+
+        List<ReservationImportResult> results = reservationService.importReservations(Arrays.asList(
+                reservation(reservationDate, roomIds.get(0)),
+                null,
+                reservation(reservationDate, roomIds.get(1)),
+                reservation(reservationDate.plusDays(1), roomIds.get(0)),
+                reservation(reservationDate, conflictingRoomId),
+                reservation(reservationDate, null)
+        ).iterator()).getData();
+
+        assertThat(results).extracting(ReservationImportResult::index).containsExactly(0, 1, 2, 3, 4, 5);
+        assertThat(results).extracting(ReservationImportResult::statusCode).containsExactly(201, 400, 201, 400, 409, 400);
+        Map<BookingOutcome, Double> after = bookings();
+        assertThat(after.get(BookingOutcome.CREATED) - before.get(BookingOutcome.CREATED)).isEqualTo(2);
+        assertThat(after.get(BookingOutcome.REJECTED_INVALID) - before.get(BookingOutcome.REJECTED_INVALID)).isEqualTo(2);
+        assertThat(after.get(BookingOutcome.REJECTED_UNAVAILABLE) - before.get(BookingOutcome.REJECTED_UNAVAILABLE)).isEqualTo(1);
+        assertThat(after.get(BookingOutcome.CONFLICT) - before.get(BookingOutcome.CONFLICT)).isEqualTo(1);
+    }
+
+    private Map<BookingOutcome, Double> bookings() {
+        Map<BookingOutcome, Double> counts = new EnumMap<>(BookingOutcome.class);
+        for (BookingOutcome outcome : BookingOutcome.values()) {
+            counts.put(outcome, meterRegistry.get(ReservationMetrics.BOOKINGS).tag("outcome", outcome.getTag()).counter().count());
+        }
+        return counts;
+    }
+
+    private static ReservationDTO reservation(LocalDateTime reservationDate, Long roomId) {
+        ReservationDTO reservation = new ReservationDTO();
+        reservation.setReservationDate(reservationDate);
+        reservation.setCheckOutDate(reservationDate.plusDays(2));
+        reservation.setUserEmail(USER_EMAIL);
+        reservation.setRoomIds(roomId == null ? null : Set.of(roomId));
+        return reservation;
+    }
+}